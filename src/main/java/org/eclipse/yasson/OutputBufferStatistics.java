@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+/**
+ * Statistics of the output buffers pooled by the {@link YassonJsonb} instance.
+ * <br>
+ * Output buffers are used by {@link YassonJsonb#toJson(Object)} and {@link YassonJsonb#toJson(Object, java.lang.reflect.Type)}.
+ * Size of the pool is configured by {@link YassonConfig#withOutputBufferPoolSize(int)}.
+ */
+public interface OutputBufferStatistics {
+
+    /**
+     * Maximal number of the pooled buffers.
+     *
+     * @return pool size
+     */
+    int getPoolSize();
+
+    /**
+     * Number of the buffers currently held by the pool.
+     *
+     * @return number of pooled buffers
+     */
+    int getPooledBuffers();
+
+    /**
+     * Number of the serializations which reused the pooled buffer.
+     *
+     * @return number of hits
+     */
+    long getHits();
+
+    /**
+     * Number of the serializations which had to allocate new buffer.
+     *
+     * @return number of misses
+     */
+    long getMisses();
+
+    /**
+     * Ratio of the hits to all the buffer requests.
+     *
+     * @return hit rate between 0 and 1, 0 if there was no request yet
+     */
+    default double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+}
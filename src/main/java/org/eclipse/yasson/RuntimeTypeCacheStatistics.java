@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.util.Set;
+
+/**
+ * Statistics of the serializer resolved from the runtime class of the serialized value.
+ * <br>
+ * Such serializer is used for the values of {@link Object}, abstract or non-final declared type. It remembers
+ * the last two observed classes together with their serializers. Every other class is a miss, resolved by the slower lookup.
+ * Low hit rate together with more than two observed types indicates megamorphic value type.
+ */
+public interface RuntimeTypeCacheStatistics {
+
+    /**
+     * Classes of the values serialized so far.
+     *
+     * @return observed value classes
+     */
+    Set<Class<?>> getObservedTypes();
+
+    /**
+     * Number of the values, which serializer was found in the last two observed classes.
+     *
+     * @return number of hits
+     */
+    long getHits();
+
+    /**
+     * Number of the values, which serializer had to be looked up.
+     *
+     * @return number of misses
+     */
+    long getMisses();
+
+    /**
+     * Ratio of the hits to all the serialized values.
+     *
+     * @return hit rate between 0 and 1, 0 if there was no value serialized yet
+     */
+    default double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of the warm-up of the {@link YassonJsonb} instance.
+ *
+ * @see YassonJsonb#warmUp(Class[])
+ * @see YassonJsonb#warmUp(String...)
+ */
+public interface WarmUpReport {
+
+    /**
+     * Time spent by building the class model, deserializer and serializer of every successfully prepared type.
+     * Types are ordered from the slowest one. Time of the type includes the types it refers to, which were
+     * not prepared yet.
+     *
+     * @return time per prepared type
+     */
+    Map<Class<?>, Duration> getTypeTimes();
+
+    /**
+     * Types which could not be prepared, together with the reason. Such types are going to fail
+     * the same way when used by the {@link YassonJsonb} instance. Failure is either a {@link RuntimeException}
+     * or a {@link LinkageError}, such as a missing dependency of the type.
+     *
+     * @return failure per type
+     */
+    Map<Class<?>, Throwable> getFailures();
+
+    /**
+     * Wall clock time of the whole warm-up.
+     *
+     * @return total time
+     */
+    Duration getTotalTime();
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 IBM and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 IBM and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -57,6 +57,31 @@ public class YassonConfig extends JsonbConfig {
      */
     public static final String DATE_TIME_IN_MILLIS_AS_A_STRING = "yasson.time-in-millis-as-a-string";
 
+    /**
+     * @see #withCodegen(boolean)
+     */
+    public static final String CODEGEN = "yasson.codegen";
+
+    /**
+     * @see #withOutputBufferPoolSize(int)
+     */
+    public static final String OUTPUT_BUFFER_POOL_SIZE = "yasson.output-buffer-pool-size";
+
+    /**
+     * @see #withMaxDepth(int)
+     */
+    public static final String MAX_DEPTH = "yasson.max-depth";
+
+    /**
+     * @see #withSharedModels(boolean)
+     */
+    public static final String SHARED_MODELS = "yasson.shared-models";
+
+    /**
+     * @see #withTypeCacheSize(int)
+     */
+    public static final String TYPE_CACHE_SIZE = "yasson.type-cache-size";
+
     /**
      * Property used to specify behaviour on deserialization when JSON document contains properties
      * which doesn't exist in the target class. Default value is 'false'.
@@ -142,4 +167,77 @@ public class YassonConfig extends JsonbConfig {
         return this;
     }
 
+    /**
+     * Enables generated object serializers and deserializers. Every class gets its own serializer and deserializer
+     * generated as a hidden class, which calls the serializers of the properties by straight-line code instead of
+     * the chain of the generic processing steps. That keeps the calls monomorphic, so JIT is able to inline them.
+     * Hidden classes require Java 16 or newer, on the older versions the generic chain is used. Types with features
+     * not supported by the generated deserializer, such as {@link jakarta.json.bind.annotation.JsonbCreator},
+     * polymorphism or missing default constructor, are deserialized by the generic chain as well.
+     *
+     * @param value whether to use generated serializers and deserializers. Default value is {@code false}.
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withCodegen(boolean value) {
+        setProperty(CODEGEN, value);
+        return this;
+    }
+
+    /**
+     * Sets the number of the output buffers pooled by the Jsonb instance and reused by {@code toJson} methods
+     * returning {@link String}. Pooled buffers are presized to the expected output size of the serialized type.
+     * Buffers larger than 1M characters are never retained.
+     *
+     * @param poolSize number of the pooled buffers, rounded up to the power of two. Value {@code 0} disables pooling.
+     *                 Default value is twice the number of available processors.
+     * @return This YassonConfig instance
+     * @see YassonJsonb#getOutputBufferStatistics()
+     */
+    public YassonConfig withOutputBufferPoolSize(int poolSize) {
+        setProperty(OUTPUT_BUFFER_POOL_SIZE, poolSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum nesting depth of the serialized objects. Serialization of the object nested deeper
+     * fails with {@link jakarta.json.bind.JsonbException}, which keeps the recursive reference detection bounded
+     * even for very deep or cyclic object graphs.
+     *
+     * @param maxDepth maximum nesting depth, must be positive. By default the depth is not limited.
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withMaxDepth(int maxDepth) {
+        setProperty(MAX_DEPTH, maxDepth);
+        return this;
+    }
+
+    /**
+     * Sets whether the class models, serializers and deserializers are shared with the other Jsonb instances
+     * created with this option enabled. Models are shared among the instances whose configuration differs only
+     * by the output settings, such as formatting or encoding. User components, such as adapters or strategies,
+     * have to be the same instances. Shared models are kept as long as any of the instances using them is reachable.
+     * Models are never shared if the user components are created by CDI.
+     *
+     * @param sharedModels whether to share the models. Default value is {@code false}.
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withSharedModels(boolean sharedModels) {
+        setProperty(SHARED_MODELS, sharedModels);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the cached serializers and deserializers of the types other than plain classes,
+     * such as parameterized or generic array types. Least recently used ones are dropped once the limit is reached.
+     * Serializers and deserializers are limited separately. Models of the plain classes are not limited,
+     * they are dropped together with their class.
+     *
+     * @param typeCacheSize maximum number of the cached models, must be positive. Default value is {@code 1024}.
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withTypeCacheSize(int typeCacheSize) {
+        setProperty(TYPE_CACHE_SIZE, typeCacheSize);
+        return this;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,8 @@
 package org.eclipse.yasson;
 
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 import jakarta.json.JsonStructure;
 import jakarta.json.bind.JsonbException;
@@ -28,6 +30,8 @@ import jakarta.json.stream.JsonParser;
  * </p>
  * <p>
  * This interface accepts instantiated generators and parsers with different input / output sources.
+ * It also reads and writes JSON directly from / to byte arrays and {@link ByteBuffer}s
+ * without any intermediate {@link String} copy.
  * </p>
  */
 public interface YassonJsonb extends jakarta.json.bind.Jsonb {
@@ -131,4 +135,159 @@ public interface YassonJsonb extends jakarta.json.bind.Jsonb {
      * @since JSON Binding 1.0
      */
     JsonStructure toJsonStructure(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the byte array and return the resulting content tree.
+     * Data are decoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param bytes JSON data to be read.
+     * @param type  Type of the content tree's root object.
+     * @param <T>   Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(byte[] bytes, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the part of the byte array and return the resulting content tree.
+     * Data are decoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param bytes       JSON data to be read.
+     * @param offset      Offset of the first byte of the JSON data.
+     * @param length      Number of bytes of the JSON data.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the remaining bytes of the buffer and return the resulting content tree.
+     * Data are decoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Position of the buffer is moved to its limit when the data are read successfully, it is not changed otherwise.
+     *
+     * @param buffer JSON data to be read.
+     * @param type   Type of the content tree's root object.
+     * @param <T>    Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(ByteBuffer buffer, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the remaining bytes of the buffer and return the resulting content tree.
+     * Data are decoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Position of the buffer is moved to its limit when the data are read successfully, it is not changed otherwise.
+     *
+     * @param buffer      JSON data to be read.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException;
+
+    /**
+     * Serializes the object content tree to the byte array.
+     * Data are encoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object The object content tree to be serialized.
+     * @return the serialized JSON data
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    byte[] toJsonBytes(Object object) throws JsonbException;
+
+    /**
+     * Serializes the object content tree to the byte array.
+     * Data are encoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object      The object content tree to be serialized.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @return the serialized JSON data
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Serializes the object content tree to the buffer, starting at its current position.
+     * Data are encoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Position of the buffer is moved after the last written byte. If the serialization fails, position is not changed.
+     *
+     * @param object The object content tree to be serialized.
+     * @param buffer The buffer to write the JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization or if the buffer does not have enough remaining space.
+     */
+    void toJson(Object object, ByteBuffer buffer) throws JsonbException;
+
+    /**
+     * Serializes the object content tree to the buffer, starting at its current position.
+     * Data are encoded with the encoding configured by {@link jakarta.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Position of the buffer is moved after the last written byte. If the serialization fails, position is not changed.
+     *
+     * @param object      The object content tree to be serialized.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param buffer      The buffer to write the JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization or if the buffer does not have enough remaining space.
+     */
+    void toJson(Object object, Type runtimeType, ByteBuffer buffer) throws JsonbException;
+
+    /**
+     * Statistics of the output buffers pooled by this instance.
+     *
+     * @return output buffer statistics
+     */
+    OutputBufferStatistics getOutputBufferStatistics();
+
+    /**
+     * Statistics of the serializers resolved from the runtime class of the serialized value, such as the serializers
+     * of {@link Object}, abstract or non-final properties. There is one serializer per declared type.
+     *
+     * @return runtime type cache statistics
+     */
+    List<RuntimeTypeCacheStatistics> getRuntimeTypeCacheStatistics();
+
+    /**
+     * Prepares the given types and all the types reachable through their properties, so the first serialization
+     * or deserialization of these types does not have to introspect them. Types are prepared in parallel.
+     * Unlike {@link YassonConfig#withEagerParsing(Class[])}, types which cannot be prepared do not fail the warm-up,
+     * they are listed in the report instead.
+     *
+     * @param rootTypes types to start from
+     * @return warm-up report
+     */
+    WarmUpReport warmUp(Class<?>... rootTypes);
+
+    /**
+     * Prepares all the types of the given packages, their sub-packages and all the types reachable through
+     * their properties. Packages are scanned by the context class loader of the current thread.
+     *
+     * @param packageNames packages to scan
+     * @return warm-up report
+     * @throws JsonbException If the packages could not be scanned.
+     * @see #warmUp(Class[])
+     */
+    WarmUpReport warmUp(String... packageNames) throws JsonbException;
+
+    /**
+     * Removes the cached class model, serializers and deserializers of the given class and of the parameterized types
+     * it is part of. They are created again by the next use of the class. Cached models of the other classes,
+     * such as the class properties or subclasses, are kept even if they refer to the removed ones.
+     * If the models are shared by {@link YassonConfig#withSharedModels(boolean)}, they are removed for all
+     * the sharing instances.
+     *
+     * @param type class to remove the models of
+     */
+    void evict(Class<?> type);
+
+    /**
+     * Removes all the cached class models, serializers and deserializers.
+     * If the models are shared by {@link YassonConfig#withSharedModels(boolean)}, they are removed for all
+     * the sharing instances.
+     */
+    void clearCaches();
 }
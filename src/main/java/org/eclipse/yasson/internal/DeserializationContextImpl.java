@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -34,6 +34,9 @@ public class DeserializationContextImpl extends ProcessingContext implements Des
     private JsonParser.Event lastValueEvent;
     private Customization customization = ClassCustomization.empty();
     private Object instance;
+    //reusable context of the nested processing, nested contexts form a stack of the frames
+    private DeserializationContextImpl nestedFrame;
+    private boolean active = true;
 
     /**
      * Parent instance for marshaller and unmarshaller.
@@ -54,6 +57,45 @@ public class DeserializationContextImpl extends ProcessingContext implements Des
         this.lastValueEvent = context.lastValueEvent;
     }
 
+    /**
+     * Obtain context for the nested processing, such as deserialization of the collection item or map entry value.
+     * Context is created once and then reused by all the subsequent nested processing of this context.
+     * It has to be released by {@link #release()} as soon as the nested processing is finished.
+     *
+     * @return nested deserialization context
+     */
+    public DeserializationContextImpl nestedContext() {
+        DeserializationContextImpl frame = nestedFrame;
+        if (frame == null) {
+            frame = new DeserializationContextImpl(this);
+            nestedFrame = frame;
+        } else if (frame.active) {
+            //previous nested context has not been released, it cannot be reused
+            return new DeserializationContextImpl(this);
+        } else {
+            frame.lastValueEvent = lastValueEvent;
+            frame.active = true;
+        }
+        return frame;
+    }
+
+    /**
+     * Release this context after the processing has finished, so it can be reused.
+     * All the nested contexts which have not been released are released as well.
+     */
+    public void release() {
+        DeserializationContextImpl frame = this;
+        do {
+            frame.active = false;
+            frame.lastValueEvent = null;
+            frame.customization = ClassCustomization.empty();
+            frame.instance = null;
+            frame.delayedSetters.clear();
+            frame.clearProcessedObjects();
+            frame = frame.nestedFrame;
+        } while (frame != null && frame.active);
+    }
+
     /**
      * Return instance of currently deserialized type.
      *
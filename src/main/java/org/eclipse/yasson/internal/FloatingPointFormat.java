@@ -0,0 +1,540 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.math.BigInteger;
+
+/**
+ * Formatting and parsing of the double and float values.
+ * <br>
+ * Values are formatted with the shortest decimal that rounds to the same value by the Schubfach algorithm,
+ * in the same notation as {@link Double#toString(double)} and {@link Float#toString(float)} use.
+ * Older JDKs do not always produce the shortest decimal, otherwise the output is the same.
+ * <br>
+ * Canonical decimal numbers of up to 19 significant digits are parsed by the Clinger's fast path
+ * or by the Eisel-Lemire algorithm. Any other input, such as hexadecimal numbers, surrounding whitespace,
+ * NaN or a value the algorithm cannot round with certainty, is parsed by {@link Double#parseDouble(String)}
+ * and {@link Float#parseFloat(String)}. Parsed value is the same in both cases.
+ */
+public final class FloatingPointFormat {
+
+    //longest double is -2.2250738585072014E-308
+    private static final int MAX_CHARS = 24;
+
+    private static final int DOUBLE_PRECISION = 53;
+    private static final int DOUBLE_Q_MIN = -1074;
+    private static final long DOUBLE_C_MIN = 1L << DOUBLE_PRECISION - 1;
+    private static final int DOUBLE_C_TINY = 3;
+    private static final int FLOAT_PRECISION = 24;
+    private static final int FLOAT_Q_MIN = -149;
+    private static final int FLOAT_C_MIN = 1 << FLOAT_PRECISION - 1;
+    private static final int FLOAT_C_TINY = 8;
+
+    //powers of ten 10^-k approximated from above by 126 bits, split into two 63 bit halves
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long[] G = schubfachTable();
+
+    //powers of five 5^q normalized to 128 bits, split into two 64 bit halves
+    private static final int Q_MIN = -342;
+    private static final int Q_MAX = 308;
+    private static final long[] POWERS_OF_FIVE = eiselLemireTable();
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final int MAX_DIGITS = 19;
+
+    private FloatingPointFormat() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Format the double as {@link Double#toString(double)} with the shortest decimal.
+     *
+     * @param value value to format
+     * @return formatted value
+     */
+    public static String toString(double value) {
+        char[] buffer = new char[MAX_CHARS];
+        return new String(buffer, 0, toChars(value, buffer));
+    }
+
+    /**
+     * Format the float as {@link Float#toString(float)} with the shortest decimal.
+     *
+     * @param value value to format
+     * @return formatted value
+     */
+    public static String toString(float value) {
+        char[] buffer = new char[MAX_CHARS];
+        return new String(buffer, 0, toChars(value, buffer));
+    }
+
+    /**
+     * Format the double into the buffer.
+     *
+     * @param value  value to format
+     * @param buffer buffer of at least 24 chars
+     * @return number of chars written
+     */
+    public static int toChars(double value, char[] buffer) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & DOUBLE_C_MIN - 1;
+        int bq = (int) (bits >>> DOUBLE_PRECISION - 1) & 0x7FF;
+        if (bq == 0x7FF) {
+            return special(t != 0, bits < 0, buffer);
+        }
+        int position = 0;
+        if (bits < 0) {
+            buffer[position++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -DOUBLE_Q_MIN + 1 - bq;
+            long c = DOUBLE_C_MIN | t;
+            //integers are exact, no rounding is needed
+            if (0 < mq && mq < DOUBLE_PRECISION) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return render(f, 0, buffer, position);
+                }
+            }
+            return toDecimal(-mq, c, 0, c != DOUBLE_C_MIN || bq == 1, buffer, position);
+        }
+        if (t != 0) {
+            return t < DOUBLE_C_TINY
+                    ? toDecimal(DOUBLE_Q_MIN, 10 * t, -1, true, buffer, position)
+                    : toDecimal(DOUBLE_Q_MIN, t, 0, true, buffer, position);
+        }
+        return zero(buffer, position);
+    }
+
+    /**
+     * Format the float into the buffer.
+     *
+     * @param value  value to format
+     * @param buffer buffer of at least 24 chars
+     * @return number of chars written
+     */
+    public static int toChars(float value, char[] buffer) {
+        int bits = Float.floatToRawIntBits(value);
+        int t = bits & FLOAT_C_MIN - 1;
+        int bq = bits >>> FLOAT_PRECISION - 1 & 0xFF;
+        if (bq == 0xFF) {
+            return special(t != 0, bits < 0, buffer);
+        }
+        int position = 0;
+        if (bits < 0) {
+            buffer[position++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+            if (0 < mq && mq < FLOAT_PRECISION) {
+                int f = c >> mq;
+                if (f << mq == c) {
+                    return render(f, 0, buffer, position);
+                }
+            }
+            return toDecimal(-mq, c, 0, c != FLOAT_C_MIN || bq == 1, buffer, position);
+        }
+        if (t != 0) {
+            return t < FLOAT_C_TINY
+                    ? toDecimal(FLOAT_Q_MIN, 10 * t, -1, true, buffer, position)
+                    : toDecimal(FLOAT_Q_MIN, t, 0, true, buffer, position);
+        }
+        return zero(buffer, position);
+    }
+
+    /**
+     * Parse the double. Result is the same as of {@link Double#parseDouble(String)}.
+     *
+     * @param value value to parse
+     * @return parsed double
+     * @throws NumberFormatException if the value is not a number
+     */
+    public static double parseDouble(String value) {
+        double result = parse(value, false);
+        return Double.isNaN(result) ? Double.parseDouble(value) : result;
+    }
+
+    /**
+     * Parse the float. Result is the same as of {@link Float#parseFloat(String)}.
+     *
+     * @param value value to parse
+     * @return parsed float
+     * @throws NumberFormatException if the value is not a number
+     */
+    public static float parseFloat(String value) {
+        double result = parse(value, true);
+        return Double.isNaN(result) ? Float.parseFloat(value) : (float) result;
+    }
+
+    //value is c * 2^q, Schubfach finds the shortest decimal in the rounding interval of the value
+    private static int toDecimal(int q, long c, int dk, boolean regularSpacing, char[] buffer, int position) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        //values of the lowest exponent are spaced regularly even if c is a power of two
+        if (regularSpacing) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        int index = k - K_MIN << 1;
+        long g1 = G[index];
+        long g0 = G[index + 1];
+        long vb = roundToOdd(g1, g0, cb << h);
+        long vbl = roundToOdd(g1, g0, cbl << h);
+        long vbr = roundToOdd(g1, g0, cbr << h);
+        long s = vb >> 2;
+        if (s >= 100) {
+            //s / 10 * 10
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return render(upin ? sp10 : tp10, k + dk, buffer, position);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return render(uin ? s : t, k + dk, buffer, position);
+        }
+        long cmp = vb - (s + t << 1);
+        return render(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buffer, position);
+    }
+
+    private static long roundToOdd(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    //floor(q * log10(2))
+    private static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    //floor(log10(3/4 * 2^q))
+    private static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    //floor(e * log2(10))
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    //value is f * 10^e, written in the notation of Double.toString
+    private static int render(long f, int e, char[] buffer, int position) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = digitCount(f);
+        int point = length + e;
+        if (point > 0 && point <= 7) {
+            if (e >= 0) {
+                position = writeDigits(f, length, buffer, position);
+                for (int i = 0; i < e; i++) {
+                    buffer[position++] = '0';
+                }
+                buffer[position++] = '.';
+                buffer[position++] = '0';
+                return position;
+            }
+            writeDigits(f, length, buffer, position + 1);
+            System.arraycopy(buffer, position + 1, buffer, position, point);
+            buffer[position + point] = '.';
+            return position + length + 1;
+        }
+        if (point <= 0 && point > -3) {
+            buffer[position++] = '0';
+            buffer[position++] = '.';
+            for (int i = point; i < 0; i++) {
+                buffer[position++] = '0';
+            }
+            return writeDigits(f, length, buffer, position);
+        }
+        writeDigits(f, length, buffer, position + 1);
+        buffer[position] = buffer[position + 1];
+        buffer[position + 1] = '.';
+        position += length + 1;
+        if (length == 1) {
+            buffer[position++] = '0';
+        }
+        buffer[position++] = 'E';
+        int exponent = point - 1;
+        if (exponent < 0) {
+            buffer[position++] = '-';
+            exponent = -exponent;
+        }
+        if (exponent >= 100) {
+            buffer[position++] = (char) ('0' + exponent / 100);
+            exponent %= 100;
+            buffer[position++] = (char) ('0' + exponent / 10);
+        } else if (exponent >= 10) {
+            buffer[position++] = (char) ('0' + exponent / 10);
+        }
+        buffer[position++] = (char) ('0' + exponent % 10);
+        return position;
+    }
+
+    private static int writeDigits(long f, int length, char[] buffer, int position) {
+        int end = position + length;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + f % 10);
+            f /= 10;
+        }
+        return end;
+    }
+
+    private static int digitCount(long f) {
+        int count = 1;
+        long limit = 10;
+        while (count < MAX_DIGITS && f >= limit) {
+            count++;
+            limit *= 10;
+        }
+        return count;
+    }
+
+    private static int special(boolean nan, boolean negative, char[] buffer) {
+        String text = nan ? "NaN" : negative ? "-Infinity" : "Infinity";
+        text.getChars(0, text.length(), buffer, 0);
+        return text.length();
+    }
+
+    private static int zero(char[] buffer, int position) {
+        buffer[position++] = '0';
+        buffer[position++] = '.';
+        buffer[position++] = '0';
+        return position;
+    }
+
+    //returns NaN if the value is not a canonical decimal number or cannot be rounded with certainty
+    private static double parse(String value, boolean toFloat) {
+        int length = value.length();
+        int position = 0;
+        char ch = charAt(value, position);
+        boolean negative = ch == '-';
+        if (negative || ch == '+') {
+            ch = charAt(value, ++position);
+        }
+        //up to 19 significant digits fit into the unsigned long, longer values are left to the JDK
+        long significand = 0;
+        int digits = 0;
+        boolean significant = false;
+        int start = position;
+        while (isDigit(ch)) {
+            //leading zeros do not count, every digit after the first non-zero one does
+            significant |= ch != '0';
+            if (significant && ++digits > MAX_DIGITS) {
+                return Double.NaN;
+            }
+            significand = significand * 10 + (ch - '0');
+            ch = charAt(value, ++position);
+        }
+        boolean hasDigits = position > start;
+        int exponent = 0;
+        if (ch == '.') {
+            ch = charAt(value, ++position);
+            start = position;
+            while (isDigit(ch)) {
+                significant |= ch != '0';
+                if (significant && ++digits > MAX_DIGITS) {
+                    return Double.NaN;
+                }
+                significand = significand * 10 + (ch - '0');
+                ch = charAt(value, ++position);
+            }
+            exponent = start - position;
+            hasDigits |= position > start;
+        }
+        if (!hasDigits) {
+            return Double.NaN;
+        }
+        if (ch == 'e' || ch == 'E') {
+            ch = charAt(value, ++position);
+            boolean negativeExponent = ch == '-';
+            if (negativeExponent || ch == '+') {
+                ch = charAt(value, ++position);
+            }
+            start = position;
+            int explicitExponent = 0;
+            while (isDigit(ch)) {
+                //larger exponents overflow or underflow anyway
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (ch - '0');
+                }
+                ch = charAt(value, ++position);
+            }
+            if (position == start) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (position != length) {
+            return Double.NaN;
+        }
+        double result = toFloat ? toFloat(significand, exponent) : toDouble(significand, exponent);
+        return negative ? -result : result;
+    }
+
+    private static char charAt(String value, int position) {
+        return position < value.length() ? value.charAt(position) : 0;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static double toDouble(long significand, int exponent) {
+        if (significand == 0) {
+            return 0;
+        }
+        //both the significand and the power of ten are exact, so the result is rounded once
+        if (exponent >= -22 && exponent <= 22 && significand > 0 && significand <= 1L << 53) {
+            return exponent < 0
+                    ? significand / DOUBLE_POWERS_OF_TEN[-exponent]
+                    : significand * DOUBLE_POWERS_OF_TEN[exponent];
+        }
+        long bits = eiselLemire(significand, exponent, 52, -1023, 0x7FF, -4, 23);
+        return bits < 0 ? Double.NaN : Double.longBitsToDouble(bits);
+    }
+
+    private static double toFloat(long significand, int exponent) {
+        if (significand == 0) {
+            return 0;
+        }
+        if (exponent >= -10 && exponent <= 10 && significand > 0 && significand <= 1L << 24) {
+            return exponent < 0
+                    ? (float) significand / FLOAT_POWERS_OF_TEN[-exponent]
+                    : (float) significand * FLOAT_POWERS_OF_TEN[exponent];
+        }
+        long bits = eiselLemire(significand, exponent, 23, -127, 0xFF, -17, 10);
+        return bits < 0 ? Double.NaN : Float.intBitsToFloat((int) bits);
+    }
+
+    //returns bits of the value closest to w * 10^q or -1 if it is not certain, subnormal or infinite
+    private static long eiselLemire(long w, int q, int mantissaBits, int minimumExponent, int infinitePower,
+                                    int minRoundToEven, int maxRoundToEven) {
+        if (q < Q_MIN || q > Q_MAX) {
+            return -1;
+        }
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int index = q - Q_MIN << 1;
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> mantissaBits + 3;
+        if ((high & precisionMask) == precisionMask) {
+            //truncated power of five could have changed the result, its lower half is added
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            long sum = low + secondHigh;
+            if (Long.compareUnsigned(sum, low) < 0) {
+                high++;
+            }
+            low = sum;
+            if (low == -1L && (q < -27 || q > 55)) {
+                return -1;
+            }
+        }
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - mantissaBits - 3;
+        long mantissa = high >>> shift;
+        int power2 = (int) ((217_706L * q >> 16) + 63) + upperBit - lz - minimumExponent;
+        if (power2 <= 0) {
+            return -1;
+        }
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= minRoundToEven && q <= maxRoundToEven
+                && (mantissa & 3) == 1 && mantissa << shift == high) {
+            //exactly halfway between two values, round to even
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << mantissaBits) {
+            mantissa = 1L << mantissaBits;
+            power2++;
+        }
+        mantissa &= ~(1L << mantissaBits);
+        if (power2 >= infinitePower) {
+            return -1;
+        }
+        return mantissa | (long) power2 << mantissaBits;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+    }
+
+    private static long[] schubfachTable() {
+        long[] table = new long[K_MAX - K_MIN + 1 << 1];
+        BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int e = -k;
+            int r = flog2pow10(e) - 125;
+            BigInteger numerator = e >= 0 ? BigInteger.TEN.pow(e) : BigInteger.ONE;
+            BigInteger denominator = e >= 0 ? BigInteger.ONE : BigInteger.TEN.pow(-e);
+            if (r >= 0) {
+                denominator = denominator.shiftLeft(r);
+            } else {
+                numerator = numerator.shiftLeft(-r);
+            }
+            BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+            int index = k - K_MIN << 1;
+            table[index] = g.shiftRight(63).longValue();
+            table[index + 1] = g.and(mask).longValue();
+        }
+        return table;
+    }
+
+    private static long[] eiselLemireTable() {
+        long[] table = new long[Q_MAX - Q_MIN + 1 << 1];
+        for (int q = Q_MIN; q <= Q_MAX; q++) {
+            BigInteger value;
+            if (q < 0) {
+                BigInteger power = BigInteger.valueOf(5).pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+            } else {
+                value = BigInteger.valueOf(5).pow(q);
+            }
+            //normalize to 128 bits with the highest bit set, lower bits are truncated
+            int bitLength = value.bitLength();
+            value = bitLength > 128 ? value.shiftRight(bitLength - 128) : value.shiftLeft(128 - bitLength);
+            int index = q - Q_MIN << 1;
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+        }
+        return table;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Double or float value formatted by the {@link FloatingPointFormat}.
+ * <br>
+ * JSONP generator accepts preformatted number only as a {@link JsonNumber}, which it writes by its string form.
+ * Generators building the JSON structure get the {@link BigDecimal} value instead.
+ */
+public final class FloatingPointNumber implements JsonNumber {
+
+    private final String text;
+
+    private FloatingPointNumber(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Write the double value. Value is written the same way as by {@link JsonGenerator#write(double)}.
+     *
+     * @param generator generator to write to
+     * @param value     value to write
+     */
+    public static void write(JsonGenerator generator, double value) {
+        if (Double.isFinite(value)) {
+            generator.write(new FloatingPointNumber(FloatingPointFormat.toString(value)));
+        } else {
+            //generator reports the value which is not a number
+            generator.write(value);
+        }
+    }
+
+    /**
+     * Write the double property. Value is written the same way as by {@link JsonGenerator#write(String, double)}.
+     *
+     * @param generator generator to write to
+     * @param name      property name
+     * @param value     value to write
+     */
+    public static void write(JsonGenerator generator, String name, double value) {
+        if (Double.isFinite(value)) {
+            generator.write(name, new FloatingPointNumber(FloatingPointFormat.toString(value)));
+        } else {
+            generator.write(name, value);
+        }
+    }
+
+    /**
+     * Write the float value. Value is written the same way as its {@link BigDecimal} representation,
+     * so it does not lose precision by the conversion to double.
+     *
+     * @param generator generator to write to
+     * @param value     value to write
+     */
+    public static void write(JsonGenerator generator, float value) {
+        String text = FloatingPointFormat.toString(value);
+        if (Float.isFinite(value) && text.indexOf('E') < 0) {
+            //plain decimal is the same as its BigDecimal representation
+            generator.write(new FloatingPointNumber(text));
+        } else {
+            //exponent is printed differently by the BigDecimal, NaN and Infinity are rejected by it
+            generator.write(new BigDecimal(text));
+        }
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return bigDecimalValue().scale() == 0;
+    }
+
+    @Override
+    public int intValue() {
+        return bigDecimalValue().intValue();
+    }
+
+    @Override
+    public int intValueExact() {
+        return bigDecimalValue().intValueExact();
+    }
+
+    @Override
+    public long longValue() {
+        return bigDecimalValue().longValue();
+    }
+
+    @Override
+    public long longValueExact() {
+        return bigDecimalValue().longValueExact();
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return bigDecimalValue().toBigInteger();
+    }
+
+    @Override
+    public BigInteger bigIntegerValueExact() {
+        return bigDecimalValue().toBigIntegerExact();
+    }
+
+    @Override
+    public double doubleValue() {
+        return bigDecimalValue().doubleValue();
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return new BigDecimal(text);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.NUMBER;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof JsonNumber && bigDecimalValue().equals(((JsonNumber) obj).bigDecimalValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return bigDecimalValue().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,32 +12,41 @@
 
 package org.eclipse.yasson.internal;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
-import java.util.Map;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.function.Supplier;
+
+import org.eclipse.yasson.internal.model.InstanceSupplier;
 
 /**
  * Creates instances for known types, caches constructors of unknown.
  * (Constructors of parsed types are stored in {@link org.eclipse.yasson.internal.model.ClassModel}).
+ * Constructors are cached by {@link ClassValue}, so the cache does not prevent the classes from being unloaded.
  */
 public class InstanceCreator {
 
-    private static final Map<Class<?>, Supplier<?>> CREATORS = new HashMap<>();
-
-    static {
-        CREATORS.put(ArrayList.class, ArrayList::new);
-        CREATORS.put(LinkedList.class, LinkedList::new);
-        CREATORS.put(HashSet.class, HashSet::new);
-        CREATORS.put(TreeSet.class, TreeSet::new);
-        CREATORS.put(HashMap.class, HashMap::new);
-        CREATORS.put(TreeMap.class, TreeMap::new);
-    }
+    private static final ClassValue<InstanceSupplier> CREATORS = new ClassValue<>() {
+        @Override
+        protected InstanceSupplier computeValue(Class<?> type) {
+            if (type == ArrayList.class) {
+                return ArrayList::new;
+            } else if (type == LinkedList.class) {
+                return LinkedList::new;
+            } else if (type == HashSet.class) {
+                return HashSet::new;
+            } else if (type == TreeSet.class) {
+                return TreeSet::new;
+            } else if (type == HashMap.class) {
+                return HashMap::new;
+            } else if (type == TreeMap.class) {
+                return TreeMap::new;
+            }
+            return InstanceSupplier.of(ReflectionUtils.getDefaultConstructor(type, true));
+        }
+    };
 
     private InstanceCreator() {
         throw new IllegalStateException("This class should never be instantiated");
@@ -52,15 +61,7 @@ public class InstanceCreator {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createInstance(Class<T> tClass) {
-        Supplier<T> creator = (Supplier<T>) CREATORS.get(tClass);
-        //No worries for race conditions here, instance may be replaced during first attempt.
-        if (creator == null) {
-            Constructor<T> constructor = ReflectionUtils.getDefaultConstructor(tClass, true);
-            creator = () -> ReflectionUtils.createNoArgConstructorInstance(constructor);
-            CREATORS.put(tClass, creator);
-        }
-
-        return creator.get();
+        return (T) ReflectionUtils.createInstance(CREATORS.get(tClass));
     }
 
 }
@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formatting and parsing of the java.time values in the ISO-8601 and I-JSON formats
+ * without the {@link DateTimeFormatter}.
+ * <br>
+ * Output is the same as of the {@link DateTimeFormatter#ISO_INSTANT}, {@link DateTimeFormatter#ISO_LOCAL_DATE},
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME},
+ * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} and {@link JsonbDateFormatter#IJSON_DATE_FORMATTER}
+ * formatters. These formatters use the standard decimal style regardless of the locale.
+ * Values with the year outside of 0-9999 are formatted by the formatters.
+ * <br>
+ * Parse methods accept only the canonical form of the value and return null for any other input,
+ * such as a lower case separator, a leap second or an invalid date. Caller then parses the value by the formatter,
+ * which keeps its leniency and its error reporting.
+ */
+public final class IsoDateTimeFormat {
+
+    private static final int MAX_CACHED_ZONES = 1024;
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    //epoch seconds of 0000-01-01T00:00:00Z and 9999-12-31T23:59:59Z
+    private static final long MIN_FOUR_DIGIT_YEAR_SECOND = -62167219200L;
+    private static final long MAX_FOUR_DIGIT_YEAR_SECOND = 253402300799L;
+    //yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+HH:MM:SS
+    private static final int MAX_LENGTH = 38;
+
+    private IsoDateTimeFormat() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Zone of the id. Zones are cached, since {@link ZoneId#of(String)} looks the rules up on every call.
+     *
+     * @param zoneId zone id
+     * @return zone
+     * @throws DateTimeException if the zone id is invalid
+     */
+    public static ZoneId zoneId(String zoneId) {
+        ZoneId zone = ZONES.get(zoneId);
+        if (zone == null) {
+            zone = ZoneId.of(zoneId);
+            //ids come from the parsed input, so the size of the cache is limited
+            if (ZONES.size() < MAX_CACHED_ZONES) {
+                ZONES.put(zoneId, zone);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Format the instant as {@link DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @param value instant to format
+     * @return formatted instant
+     */
+    public static String formatInstant(Instant value) {
+        if (!isFourDigitYear(value)) {
+            return DateTimeFormatter.ISO_INSTANT.format(value);
+        }
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(value.getEpochSecond(), value.getNano(), ZoneOffset.UTC);
+        char[] buffer = new char[MAX_LENGTH];
+        int position = writeDate(buffer, 0, dateTime.toLocalDate());
+        buffer[position++] = 'T';
+        position = writeHoursMinutesSeconds(buffer, position, dateTime.toLocalTime());
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            //fraction is printed in the groups of three digits
+            int digits = nano % 1_000_000 == 0 ? 3 : nano % 1000 == 0 ? 6 : 9;
+            position = writeFraction(buffer, position, nano, digits);
+        }
+        buffer[position++] = 'Z';
+        return new String(buffer, 0, position);
+    }
+
+    /**
+     * Format the date as {@link DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @param value date to format
+     * @return formatted date
+     */
+    public static String formatLocalDate(LocalDate value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(value);
+        }
+        char[] buffer = new char[10];
+        writeDate(buffer, 0, value);
+        return new String(buffer);
+    }
+
+    /**
+     * Format the date time as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @param value date time to format
+     * @return formatted date time
+     */
+    public static String formatLocalDateTime(LocalDateTime value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int position = writeDateTime(buffer, value);
+        return new String(buffer, 0, position);
+    }
+
+    /**
+     * Format the date time as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param value date time to format
+     * @return formatted date time
+     */
+    public static String formatOffsetDateTime(OffsetDateTime value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int position = writeDateTime(buffer, value.toLocalDateTime());
+        position = writeOffsetId(buffer, position, value.getOffset());
+        return new String(buffer, 0, position);
+    }
+
+    /**
+     * Format the date time as {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     *
+     * @param value date time to format
+     * @return formatted date time
+     */
+    public static String formatZonedDateTime(ZonedDateTime value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value);
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int position = writeDateTime(buffer, value.toLocalDateTime());
+        position = writeOffsetId(buffer, position, value.getOffset());
+        ZoneId zone = value.getZone();
+        if (zone instanceof ZoneOffset) {
+            return new String(buffer, 0, position);
+        }
+        String zoneId = zone.getId();
+        return new StringBuilder(position + zoneId.length() + 2)
+                .append(buffer, 0, position)
+                .append('[')
+                .append(zoneId)
+                .append(']')
+                .toString();
+    }
+
+    /**
+     * Format the instant as {@link JsonbDateFormatter#IJSON_DATE_FORMATTER} in UTC.
+     *
+     * @param value instant to format
+     * @return formatted instant
+     */
+    public static String formatIJson(Instant value) {
+        if (!isFourDigitYear(value)) {
+            return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(ZoneOffset.UTC).format(value);
+        }
+        return formatIJson(LocalDateTime.ofEpochSecond(value.getEpochSecond(), 0, ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    /**
+     * Format the date time as {@link JsonbDateFormatter#IJSON_DATE_FORMATTER}.
+     *
+     * @param dateTime local date time to format
+     * @param offset   offset of the date time
+     * @return formatted date time
+     */
+    public static String formatIJson(LocalDateTime dateTime, ZoneOffset offset) {
+        if (!isFourDigitYear(dateTime.getYear())) {
+            return JsonbDateFormatter.IJSON_DATE_FORMATTER.format(dateTime.atOffset(offset));
+        }
+        char[] buffer = new char[26];
+        int position = writeDate(buffer, 0, dateTime.toLocalDate());
+        buffer[position++] = 'T';
+        position = writeHoursMinutesSeconds(buffer, position, dateTime.toLocalTime());
+        buffer[position++] = 'Z';
+        //I-JSON offset always has hours and minutes, seconds are not printed
+        int totalSeconds = offset.getTotalSeconds();
+        int absoluteSeconds = Math.abs(totalSeconds);
+        int hours = absoluteSeconds / 3600;
+        int minutes = absoluteSeconds / 60 % 60;
+        //offset printed as zero has the positive sign, even if it is negative by the seconds
+        buffer[position++] = totalSeconds < 0 && (hours != 0 || minutes != 0) ? '-' : '+';
+        position = writeTwoDigits(buffer, position, hours);
+        buffer[position++] = ':';
+        writeTwoDigits(buffer, position, minutes);
+        return new String(buffer);
+    }
+
+    /**
+     * Parse the instant in the canonical {@link DateTimeFormatter#ISO_INSTANT} form.
+     *
+     * @param value value to parse
+     * @return parsed instant or null if the value is not in the canonical form
+     */
+    public static Instant parseInstant(String value) {
+        int length = value.length();
+        if (length < 20 || value.charAt(length - 1) != 'Z' || value.charAt(16) != ':') {
+            return null;
+        }
+        LocalDateTime dateTime = parseDateTime(value, length - 1);
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Parse the date in the canonical {@link DateTimeFormatter#ISO_LOCAL_DATE} form.
+     *
+     * @param value value to parse
+     * @return parsed date or null if the value is not in the canonical form
+     */
+    public static LocalDate parseLocalDate(String value) {
+        return value.length() == 10 ? parseDate(value) : null;
+    }
+
+    /**
+     * Parse the date time in the canonical {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if the value is not in the canonical form
+     */
+    public static LocalDateTime parseLocalDateTime(String value) {
+        return parseDateTime(value, value.length());
+    }
+
+    /**
+     * Parse the date time in the canonical {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if the value is not in the canonical form
+     */
+    public static OffsetDateTime parseOffsetDateTime(String value) {
+        return parseOffsetDateTime(value, value.length());
+    }
+
+    /**
+     * Parse the date time in the canonical {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if the value is not in the canonical form
+     */
+    public static ZonedDateTime parseZonedDateTime(String value) {
+        int length = value.length();
+        if (length == 0 || value.charAt(length - 1) != ']') {
+            OffsetDateTime dateTime = parseOffsetDateTime(value, length);
+            return dateTime == null ? null : dateTime.toZonedDateTime();
+        }
+        int zoneStart = value.lastIndexOf('[');
+        if (zoneStart < 0 || zoneStart + 2 >= length) {
+            return null;
+        }
+        OffsetDateTime dateTime = parseOffsetDateTime(value, zoneStart);
+        if (dateTime == null) {
+            return null;
+        }
+        String zoneId = value.substring(zoneStart + 1, length - 1);
+        ZoneId zone;
+        try {
+            zone = zoneId(zoneId);
+        } catch (DateTimeException e) {
+            return null;
+        }
+        if (!zone.getId().equals(zoneId)) {
+            //formatter accepts only the canonical region ids
+            return null;
+        }
+        return ZonedDateTime.ofInstant(dateTime.toLocalDateTime(), dateTime.getOffset(), zone);
+    }
+
+    /**
+     * Parse the date time in the canonical {@link JsonbDateFormatter#IJSON_DATE_FORMATTER} form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if the value is not in the canonical form
+     */
+    public static OffsetDateTime parseIJson(String value) {
+        if (value.length() != 26 || value.charAt(19) != 'Z') {
+            return null;
+        }
+        LocalDate date = parseDate(value);
+        if (date == null || value.charAt(10) != 'T' || value.charAt(16) != ':') {
+            return null;
+        }
+        LocalTime time = parseTime(value, 11, 19);
+        ZoneOffset offset = parseOffset(value, 20, 26);
+        return time == null || offset == null ? null : OffsetDateTime.of(date, time, offset);
+    }
+
+    private static OffsetDateTime parseOffsetDateTime(String value, int end) {
+        int offsetStart = end - 1;
+        if (offsetStart < 16) {
+            return null;
+        }
+        if (value.charAt(offsetStart) != 'Z') {
+            offsetStart = end - 6;
+            if (offsetStart >= 16 && value.charAt(offsetStart) != '+' && value.charAt(offsetStart) != '-') {
+                offsetStart = end - 9;
+            }
+        }
+        if (offsetStart < 16) {
+            return null;
+        }
+        LocalDateTime dateTime = parseDateTime(value, offsetStart);
+        ZoneOffset offset = parseOffset(value, offsetStart, end);
+        return dateTime == null || offset == null ? null : OffsetDateTime.of(dateTime, offset);
+    }
+
+    private static LocalDateTime parseDateTime(String value, int end) {
+        if (end < 16 || value.charAt(10) != 'T') {
+            return null;
+        }
+        LocalDate date = parseDate(value);
+        LocalTime time = date == null ? null : parseTime(value, 11, end);
+        return time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.length() < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return null;
+        }
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 2);
+        int day = parseDigits(value, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    //HH:mm[:ss[.nnnnnnnnn]] between start and end
+    private static LocalTime parseTime(String value, int start, int end) {
+        if (end - start < 5 || value.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hour = parseDigits(value, start, 2);
+        int minute = parseDigits(value, start + 3, 2);
+        int second = 0;
+        int nano = 0;
+        int position = start + 5;
+        if (position < end) {
+            if (end - position < 3 || value.charAt(position) != ':') {
+                return null;
+            }
+            second = parseDigits(value, position + 1, 2);
+            position += 3;
+            if (position < end) {
+                int digits = end - position - 1;
+                if (value.charAt(position) != '.' || digits < 1 || digits > 9) {
+                    return null;
+                }
+                nano = parseDigits(value, position + 1, digits);
+                if (nano < 0) {
+                    return null;
+                }
+                for (int i = digits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nano);
+    }
+
+    //Z, +HH:MM or +HH:MM:SS between start and end
+    private static ZoneOffset parseOffset(String value, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            return value.charAt(start) == 'Z' ? ZoneOffset.UTC : null;
+        }
+        char sign = value.charAt(start);
+        if (length != 6 && length != 9 || sign != '+' && sign != '-' || value.charAt(start + 3) != ':') {
+            return null;
+        }
+        int hours = parseDigits(value, start + 1, 2);
+        int minutes = parseDigits(value, start + 4, 2);
+        int seconds = 0;
+        if (length == 9) {
+            if (value.charAt(start + 6) != ':') {
+                return null;
+            }
+            seconds = parseDigits(value, start + 7, 2);
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59
+                || hours == 18 && (minutes > 0 || seconds > 0)) {
+            return null;
+        }
+        //offsets of the whole quarter hours are cached by ZoneOffset itself
+        return sign == '+'
+                ? ZoneOffset.ofHoursMinutesSeconds(hours, minutes, seconds)
+                : ZoneOffset.ofHoursMinutesSeconds(-hours, -minutes, -seconds);
+    }
+
+    private static int parseDigits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static boolean isFourDigitYear(Instant instant) {
+        long second = instant.getEpochSecond();
+        return second >= MIN_FOUR_DIGIT_YEAR_SECOND && second <= MAX_FOUR_DIGIT_YEAR_SECOND;
+    }
+
+    private static int writeDateTime(char[] buffer, LocalDateTime value) {
+        int position = writeDate(buffer, 0, value.toLocalDate());
+        buffer[position++] = 'T';
+        LocalTime time = value.toLocalTime();
+        position = writeHoursMinutesSeconds(buffer, position, time);
+        int nano = time.getNano();
+        if (nano > 0) {
+            //fraction is printed with as few digits as possible
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            position = writeFraction(buffer, position, time.getNano(), digits);
+        }
+        return position;
+    }
+
+    private static int writeDate(char[] buffer, int position, LocalDate date) {
+        int year = date.getYear();
+        position = writeTwoDigits(buffer, position, year / 100);
+        position = writeTwoDigits(buffer, position, year % 100);
+        buffer[position++] = '-';
+        position = writeTwoDigits(buffer, position, date.getMonthValue());
+        buffer[position++] = '-';
+        return writeTwoDigits(buffer, position, date.getDayOfMonth());
+    }
+
+    private static int writeHoursMinutesSeconds(char[] buffer, int position, LocalTime time) {
+        position = writeTwoDigits(buffer, position, time.getHour());
+        buffer[position++] = ':';
+        position = writeTwoDigits(buffer, position, time.getMinute());
+        buffer[position++] = ':';
+        return writeTwoDigits(buffer, position, time.getSecond());
+    }
+
+    private static int writeFraction(char[] buffer, int position, int nano, int digits) {
+        buffer[position++] = '.';
+        int divisor = 100_000_000;
+        for (int i = 0; i < digits; i++) {
+            buffer[position++] = (char) ('0' + nano / divisor % 10);
+            divisor /= 10;
+        }
+        return position;
+    }
+
+    private static int writeOffsetId(char[] buffer, int position, ZoneOffset offset) {
+        String id = offset.getId();
+        id.getChars(0, id.length(), buffer, position);
+        return position + id.length();
+    }
+
+    private static int writeTwoDigits(char[] buffer, int position, int value) {
+        buffer[position] = (char) ('0' + value / 10);
+        buffer[position + 1] = (char) ('0' + value % 10);
+        return position + 2;
+    }
+
+}
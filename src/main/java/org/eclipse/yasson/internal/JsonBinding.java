@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,25 +12,29 @@
 
 package org.eclipse.yasson.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.FilterWriter;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import jakarta.json.JsonStructure;
-import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
-import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 
+import org.eclipse.yasson.OutputBufferStatistics;
+import org.eclipse.yasson.RuntimeTypeCacheStatistics;
+import org.eclipse.yasson.WarmUpReport;
 import org.eclipse.yasson.YassonJsonb;
 import org.eclipse.yasson.internal.jsonstructure.JsonGeneratorToStructureAdapter;
 import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
@@ -42,8 +46,18 @@ public class JsonBinding implements YassonJsonb {
 
     private final JsonbContext jsonbContext;
 
+    private final OutputBufferPool outputBuffers;
+
+    private final StripedPool<SerializationContextImpl> serializationContexts;
+
+    private final StripedPool<DeserializationContextImpl> deserializationContexts;
+
     JsonBinding(JsonBindingBuilder builder) {
-        this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(JsonProvider::provider));
+        this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(ServiceCache::jsonProvider));
+        this.outputBuffers = new OutputBufferPool(jsonbContext.getConfigProperties().getOutputBufferPoolSize());
+        int contextPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        this.serializationContexts = new StripedPool<>(contextPoolSize);
+        this.deserializationContexts = new StripedPool<>(contextPoolSize);
         Set<Class<?>> eagerInitClasses = this.jsonbContext.getConfigProperties().getEagerInitClasses();
         for (Class<?> eagerInitClass : eagerInitClasses) {
             // Eagerly initialize requested ClassModels and Serializers
@@ -52,182 +66,283 @@ public class JsonBinding implements YassonJsonb {
         }
     }
 
-    private <T> T deserialize(final Type type, final JsonParser parser, final DeserializationContextImpl unmarshaller) {
-        return unmarshaller.deserialize(type, parser);
+    private <T> T deserialize(final Type type, final JsonParser parser) {
+        DeserializationContextImpl unmarshaller = deserializationContexts.acquire();
+        if (unmarshaller == null) {
+            unmarshaller = new DeserializationContextImpl(jsonbContext);
+        }
+        try {
+            return unmarshaller.deserialize(type, parser);
+        } finally {
+            unmarshaller.release();
+            deserializationContexts.release(unmarshaller);
+        }
+    }
+
+    private void serialize(final Object object, final Type runtimeType, final JsonGenerator generator, final boolean close) {
+        SerializationContextImpl marshaller = serializationContexts.acquire();
+        if (marshaller == null) {
+            marshaller = new SerializationContextImpl(jsonbContext, runtimeType);
+        } else {
+            marshaller.reset(runtimeType);
+        }
+        try {
+            marshaller.marshall(object, generator, close);
+        } finally {
+            marshaller.reset(null);
+            serializationContexts.release(marshaller);
+        }
     }
 
     @Override
     public <T> T fromJson(String str, Class<T> type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(new StringReader(str))) {
-            final DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-            return deserialize(type, parser, unmarshaller);
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(new StringReader(str))) {
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJson(String str, Type type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(new StringReader(str))) {
-            DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-            return deserialize(type, parser, unmarshaller);
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(new StringReader(str))) {
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJson(Reader reader, Class<T> type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(reader)) {
-            DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-            return deserialize(type, parser, unmarshaller);
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(reader)) {
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJson(Reader reader, Type type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(reader)) {
-            DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-            return deserialize(type, parser, unmarshaller);
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(reader)) {
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJson(InputStream stream, Class<T> clazz) throws JsonbException {
-        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
         try (JsonParser parser = inputStreamParser(stream)) {
-            return deserialize(clazz, parser, unmarshaller);
+            return deserialize(clazz, parser);
         }
     }
 
     @Override
     public <T> T fromJson(InputStream stream, Type type) throws JsonbException {
-        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
         try (JsonParser parser = inputStreamParser(stream)) {
-            return deserialize(type, parser, unmarshaller);
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJsonStructure(JsonStructure jsonStructure, Class<T> type) throws JsonbException {
         try (JsonParser parser = new JsonStructureToParserAdapter(jsonStructure)) {
-            return deserialize(type, parser, new DeserializationContextImpl(jsonbContext));
+            return deserialize(type, parser);
         }
     }
 
     @Override
     public <T> T fromJsonStructure(JsonStructure jsonStructure, Type runtimeType) throws JsonbException {
         try (JsonParser parser = new JsonStructureToParserAdapter(jsonStructure)) {
-            return deserialize(runtimeType, parser, new DeserializationContextImpl(jsonbContext));
+            return deserialize(runtimeType, parser);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(byte[] bytes, Class<T> type) throws JsonbException {
+        return fromJson(new ByteArrayInputStream(bytes), type);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException {
+        return fromJson(new ByteArrayInputStream(bytes, offset, length), runtimeType);
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Class<T> type) throws JsonbException {
+        return fromJson(buffer, (Type) type);
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException {
+        T result;
+        if (buffer.hasArray()) {
+            result = fromJson(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), runtimeType);
+        } else {
+            //position of the original buffer is moved only when the data has been read successfully
+            result = fromJson(new ByteBufferInputStream(buffer.duplicate()), runtimeType);
         }
+        buffer.position(buffer.limit());
+        return result;
     }
 
     private JsonParser inputStreamParser(InputStream stream) {
-        return jsonbContext.getJsonParserFactory()
-                .createParser(stream,
-                              Charset.forName((String) jsonbContext.getConfig()
-                                      .getProperty(JsonbConfig.ENCODING).orElse("UTF-8")));
+        return jsonbContext.getJsonParserFactory().createParser(stream, jsonbContext.getConfigProperties().getEncoding());
     }
 
     @Override
     public String toJson(Object object) throws JsonbException {
-        StringWriter writer = new StringWriter();
-        try (JsonGenerator generator = writerGenerator(writer)) {
-            new SerializationContextImpl(jsonbContext).marshall(object, generator);
-        }
-        return writer.toString();
+        return toPooledBuffer(object, null, OutputBufferPool.PooledWriter::toString);
     }
 
     @Override
     public String toJson(Object object, Type type) throws JsonbException {
-        StringWriter writer = new StringWriter();
-        try (JsonGenerator generator = writerGenerator(writer)) {
-            new SerializationContextImpl(jsonbContext, type).marshall(object, generator);
+        return toPooledBuffer(object, type, OutputBufferPool.PooledWriter::toString);
+    }
+
+    private <R> R toPooledBuffer(Object object, Type type, Function<OutputBufferPool.PooledWriter, R> result) {
+        Class<?> rootType = object == null ? null : object.getClass();
+        OutputBufferPool.PooledWriter writer = outputBuffers.acquire(rootType);
+        //size of the failed serialization is not recorded
+        Class<?> measuredType = null;
+        try {
+            try (JsonGenerator generator = writerGenerator(writer)) {
+                serialize(object, type, generator, true);
+            }
+            R value = result.apply(writer);
+            measuredType = rootType;
+            return value;
+        } finally {
+            outputBuffers.release(measuredType, writer);
         }
-        return writer.toString();
     }
 
     @Override
     public void toJson(Object object, Writer writer) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
         try (JsonGenerator generator = writerGenerator(new CloseSuppressingWriter(writer))) {
-            marshaller.marshallWithoutClose(object, generator);
+            serialize(object, null, generator, false);
         }
     }
 
     @Override
     public void toJson(Object object, Type type, Writer writer) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext, type);
         try (JsonGenerator generator = writerGenerator(new CloseSuppressingWriter(writer))) {
-            marshaller.marshallWithoutClose(object, generator);
+            serialize(object, type, generator, false);
         }
     }
 
     private JsonGenerator writerGenerator(Writer writer) {
-        Map<String, ?> factoryProperties = jsonbContext.createJsonpProperties(jsonbContext.getConfig());
-        if (factoryProperties.isEmpty()) {
-            return jsonbContext.getJsonProvider().createGenerator(writer);
-        }
-        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties).createGenerator(writer);
+        return jsonbContext.getJsonGeneratorFactory().createGenerator(writer);
     }
 
     @Override
     public void toJson(Object object, OutputStream stream) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
         try (JsonGenerator generator = streamGenerator(stream)) {
-            marshaller.marshall(object, generator);
+            serialize(object, null, generator, true);
         }
     }
 
     @Override
     public void toJson(Object object, Type type, OutputStream stream) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext, type);
         try (JsonGenerator generator = streamGenerator(stream)) {
-            marshaller.marshall(object, generator);
+            serialize(object, type, generator, true);
+        }
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object) throws JsonbException {
+        return toJsonBytes(object, null);
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException {
+        Charset encoding = jsonbContext.getConfigProperties().getEncoding();
+        return toPooledBuffer(object, runtimeType, writer -> writer.toBytes(encoding));
+    }
+
+    @Override
+    public void toJson(Object object, ByteBuffer buffer) throws JsonbException {
+        toJson(object, null, buffer);
+    }
+
+    @Override
+    public void toJson(Object object, Type runtimeType, ByteBuffer buffer) throws JsonbException {
+        int position = buffer.position();
+        try {
+            toJson(object, runtimeType, new ByteBufferOutputStream(buffer));
+        } catch (RuntimeException e) {
+            //partially written data are discarded
+            buffer.position(position);
+            throw e;
         }
     }
 
     @Override
     public <T> T fromJson(JsonParser jsonParser, Class<T> type) throws JsonbException {
-        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-        return unmarshaller.deserialize(type, jsonParser);
+        return deserialize(type, jsonParser);
     }
 
     @Override
     public <T> T fromJson(JsonParser jsonParser, Type runtimeType) throws JsonbException {
-        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
-        return unmarshaller.deserialize(runtimeType, jsonParser);
+        return deserialize(runtimeType, jsonParser);
     }
 
     @Override
     public void toJson(Object object, JsonGenerator jsonGenerator) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
-        marshaller.marshallWithoutClose(object, jsonGenerator);
+        serialize(object, null, jsonGenerator, false);
     }
 
     @Override
     public void toJson(Object object, Type runtimeType, JsonGenerator jsonGenerator) throws JsonbException {
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext, runtimeType);
-        marshaller.marshallWithoutClose(object, jsonGenerator);
+        serialize(object, runtimeType, jsonGenerator, false);
     }
 
     @Override
     public JsonStructure toJsonStructure(Object object) throws JsonbException {
         JsonGeneratorToStructureAdapter structureGenerator = new JsonGeneratorToStructureAdapter(jsonbContext.getJsonProvider());
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
-        marshaller.marshall(object, structureGenerator);
+        serialize(object, null, structureGenerator, true);
         return structureGenerator.getRootStructure();
     }
 
     @Override
     public JsonStructure toJsonStructure(Object object, Type runtimeType) throws JsonbException {
         JsonGeneratorToStructureAdapter structureGenerator = new JsonGeneratorToStructureAdapter(jsonbContext.getJsonProvider());
-        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext, runtimeType);
-        marshaller.marshall(object, structureGenerator);
+        serialize(object, runtimeType, structureGenerator, true);
         return structureGenerator.getRootStructure();
     }
 
     private JsonGenerator streamGenerator(OutputStream stream) {
-        Map<String, ?> factoryProperties = jsonbContext.createJsonpProperties(jsonbContext.getConfig());
-        final String encoding = (String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8");
-        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties)
-                .createGenerator(stream, Charset.forName(encoding));
+        return jsonbContext.getJsonGeneratorFactory().createGenerator(stream, jsonbContext.getConfigProperties().getEncoding());
+    }
+
+    @Override
+    public OutputBufferStatistics getOutputBufferStatistics() {
+        return outputBuffers;
+    }
+
+    @Override
+    public List<RuntimeTypeCacheStatistics> getRuntimeTypeCacheStatistics() {
+        return jsonbContext.getSerializationModelCreator().getRuntimeTypeCaches();
+    }
+
+    @Override
+    public WarmUpReport warmUp(Class<?>... rootTypes) {
+        return new ModelWarmUp(jsonbContext).warmUp(Arrays.asList(rootTypes));
+    }
+
+    @Override
+    public WarmUpReport warmUp(String... packageNames) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JsonBinding.class.getClassLoader();
+        }
+        return new ModelWarmUp(jsonbContext).warmUp(ModelWarmUp.scanPackages(classLoader, packageNames));
+    }
+
+    @Override
+    public void evict(Class<?> type) {
+        jsonbContext.getMappingContext().evict(type);
+        jsonbContext.getChainModelCreator().evict(type);
+        jsonbContext.getSerializationModelCreator().evict(type);
+    }
+
+    @Override
+    public void clearCaches() {
+        jsonbContext.getMappingContext().clear();
+        jsonbContext.getChainModelCreator().clear();
+        jsonbContext.getSerializationModelCreator().clear();
     }
 
     @Override
@@ -235,6 +350,68 @@ public class JsonBinding implements YassonJsonb {
         jsonbContext.getComponentInstanceCreator().close();
     }
 
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureRemaining(length);
+            buffer.put(bytes, offset, length);
+        }
+
+        private void ensureRemaining(int length) {
+            if (buffer.remaining() < length) {
+                throw new JsonbException("Not enough space in the buffer to write JSON data. Remaining: " + buffer.remaining()
+                                                 + ", required: " + length);
+            }
+        }
+
+    }
+
     private static class CloseSuppressingWriter extends FilterWriter {
 
         protected CloseSuppressingWriter(final Writer in) {
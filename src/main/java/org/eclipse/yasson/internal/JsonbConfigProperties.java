@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2020 Payara Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal;
 
+import java.nio.charset.Charset;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.format.DateTimeFormatterBuilder;
@@ -77,6 +78,15 @@ public class JsonbConfigProperties {
     private final JsonbSerializer<Object> nullSerializer;
     private final Set<Class<?>> eagerInitClasses;
     private final boolean forceMapArraySerializerForNullKeys;
+    private final boolean codegen;
+    private final Charset encoding;
+    private final int outputBufferPoolSize;
+
+    private final int maxDepth;
+
+    private final boolean sharedModels;
+
+    private final int typeCacheSize;
 
     /**
      * Creates new resolved JSONB config.
@@ -102,6 +112,12 @@ public class JsonbConfigProperties {
         this.requiredCreatorParameters = initRequiredCreatorParameters();
         this.forceMapArraySerializerForNullKeys = initForceMapArraySerializerForNullKeys();
         this.dateInMillisecondsAsString = initDateInMillisecondsAsString();
+        this.codegen = initCodegen();
+        this.encoding = initEncoding();
+        this.outputBufferPoolSize = initOutputBufferPoolSize();
+        this.maxDepth = initMaxDepth();
+        this.sharedModels = getConfigProperty(YassonConfig.SHARED_MODELS, Boolean.class, false);
+        this.typeCacheSize = initTypeCacheSize();
     }
 
     private Class<? extends Map> initDefaultMapImplType() {
@@ -209,6 +225,40 @@ public class JsonbConfigProperties {
         return getConfigProperty(YassonConfig.DATE_TIME_IN_MILLIS_AS_A_STRING, Boolean.class, false);
     }
 
+    private boolean initCodegen() {
+        return getConfigProperty(YassonConfig.CODEGEN, Boolean.class, false);
+    }
+
+    private Charset initEncoding() {
+        return Charset.forName(getConfigProperty(JsonbConfig.ENCODING, String.class, "UTF-8"));
+    }
+
+    private int initOutputBufferPoolSize() {
+        int poolSize = getConfigProperty(YassonConfig.OUTPUT_BUFFER_POOL_SIZE,
+                                         Integer.class,
+                                         Runtime.getRuntime().availableProcessors() * 2);
+        if (poolSize < 0) {
+            throw new JsonbException(YassonConfig.OUTPUT_BUFFER_POOL_SIZE + " must not be negative: " + poolSize);
+        }
+        return poolSize;
+    }
+
+    private int initMaxDepth() {
+        int depth = getConfigProperty(YassonConfig.MAX_DEPTH, Integer.class, Integer.MAX_VALUE);
+        if (depth <= 0) {
+            throw new JsonbException(YassonConfig.MAX_DEPTH + " must be positive: " + depth);
+        }
+        return depth;
+    }
+
+    private int initTypeCacheSize() {
+        int size = getConfigProperty(YassonConfig.TYPE_CACHE_SIZE, Integer.class, 1024);
+        if (size <= 0) {
+            throw new JsonbException(YassonConfig.TYPE_CACHE_SIZE + " must be positive: " + size);
+        }
+        return size;
+    }
+
     @SuppressWarnings("unchecked")
     private JsonbSerializer<Object> initNullSerializer() {
         return jsonbConfig.getProperty(YassonConfig.NULL_ROOT_SERIALIZER)
@@ -408,4 +458,57 @@ public class JsonbConfigProperties {
     public boolean isDateInMillisecondsAsString() {
         return dateInMillisecondsAsString;
     }
+
+    /**
+     * Whether generated object serializers and deserializers should be used.
+     *
+     * @return whether code generation is enabled
+     */
+    public boolean isCodegen() {
+        return codegen;
+    }
+
+    /**
+     * Encoding used for the JSON read from the {@link java.io.InputStream} or written to the {@link java.io.OutputStream}.
+     *
+     * @return configured encoding, UTF-8 by default
+     */
+    public Charset getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Number of the pooled output buffers.
+     *
+     * @return output buffer pool size
+     */
+    public int getOutputBufferPoolSize() {
+        return outputBufferPoolSize;
+    }
+
+    /**
+     * Maximum nesting depth of the serialized objects.
+     *
+     * @return maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Whether the models are shared with the other Jsonb instances of the compatible configuration.
+     *
+     * @return whether the models are shared
+     */
+    public boolean isSharedModels() {
+        return sharedModels;
+    }
+    /**
+     * Maximum number of the cached serializers and deserializers of the types other than plain classes.
+     *
+     * @return maximum number of the cached models
+     */
+    public int getTypeCacheSize() {
+        return typeCacheSize;
+    }
 }
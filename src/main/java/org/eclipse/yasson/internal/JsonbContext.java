@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,25 +12,19 @@
 
 package org.eclipse.yasson.internal;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.logging.Logger;
 
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParserFactory;
 
-import org.eclipse.yasson.internal.components.JsonbComponentInstanceCreatorFactory;
 import org.eclipse.yasson.internal.deserializer.DeserializationModelCreator;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
@@ -58,6 +52,8 @@ public class JsonbContext {
 
     private final JsonParserFactory jsonParserFactory;
 
+    private final JsonGeneratorFactory jsonGeneratorFactory;
+
     private final ComponentMatcher componentMatcher;
 
     private final AnnotationIntrospector annotationIntrospector;
@@ -73,15 +69,17 @@ public class JsonbContext {
     public JsonbContext(JsonbConfig jsonbConfig, JsonProvider jsonProvider) {
         Objects.requireNonNull(jsonbConfig);
         this.jsonbConfig = jsonbConfig;
-        this.mappingContext = new MappingContext(this);
         this.componentInstanceCreator = initComponentInstanceCreator();
         this.componentMatcher = new ComponentMatcher(this);
         this.annotationIntrospector = new AnnotationIntrospector(this);
         this.jsonProvider = jsonProvider;
         this.jsonParserFactory = initJsonParserFactory();
+        this.jsonGeneratorFactory = initJsonGeneratorFactory();
         this.configProperties = new JsonbConfigProperties(jsonbConfig);
-        this.deserializationModelCreator = new DeserializationModelCreator(this);
-        this.serializationModelCreator = new SerializationModelCreator(this);
+        ModelRegistry.Models models = ModelRegistry.models(this);
+        this.mappingContext = models.getMappingContext();
+        this.deserializationModelCreator = models.getDeserializationModelCreator();
+        this.serializationModelCreator = models.getSerializationModelCreator();
     }
 
     /**
@@ -164,10 +162,24 @@ public class JsonbContext {
         return jsonParserFactory;
     }
 
+    /**
+     * Gets JSONP generator factory configured by the properties of this context.
+     * Factory is shared among all the generators created by this context.
+     *
+     * @return JSONP generator factory
+     */
+    public JsonGeneratorFactory getJsonGeneratorFactory() {
+        return jsonGeneratorFactory;
+    }
+
     private JsonParserFactory initJsonParserFactory() {
         return jsonProvider.createParserFactory(createJsonpProperties(jsonbConfig));
     }
 
+    private JsonGeneratorFactory initJsonGeneratorFactory() {
+        return jsonProvider.createGeneratorFactory(createJsonpProperties(jsonbConfig));
+    }
+
     /**
      * Propagates properties from JsonbConfig to JSONP generator / parser factories.
      *
@@ -192,20 +204,8 @@ public class JsonbContext {
     }
 
     private JsonbComponentInstanceCreator initComponentInstanceCreator() {
-        ServiceLoader<JsonbComponentInstanceCreator> loader = AccessController
-                .doPrivileged((PrivilegedAction<ServiceLoader<JsonbComponentInstanceCreator>>) () -> ServiceLoader
-                        .load(JsonbComponentInstanceCreator.class));
-        List<JsonbComponentInstanceCreator> creators = new ArrayList<>();
-        for (JsonbComponentInstanceCreator creator : loader) {
-            creators.add(creator);
-        }
-        if (creators.isEmpty()) {
-            // No service provider found - use the defaults
-            return JsonbComponentInstanceCreatorFactory.getComponentInstanceCreator();
-        }
-        creators.sort(Comparator.comparingInt(JsonbComponentInstanceCreator::getPriority).reversed());
-        JsonbComponentInstanceCreator creator = creators.get(0);
-        LOGGER.finest("Component instance creator:" + creator.getClass());
+        JsonbComponentInstanceCreator creator = ServiceCache.componentInstanceCreator();
+        LOGGER.finest(() -> "Component instance creator:" + creator.getClass());
         return creator;
     }
 
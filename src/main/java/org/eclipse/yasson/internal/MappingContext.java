@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,7 +15,6 @@ package org.eclipse.yasson.internal;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.eclipse.yasson.internal.model.ClassModel;
@@ -31,7 +30,7 @@ import org.eclipse.yasson.internal.model.customization.ClassCustomization;
 public class MappingContext {
     private final JsonbContext jsonbContext;
 
-    private final ConcurrentHashMap<Class<?>, ClassModel> classes = new ConcurrentHashMap<>();
+    private final ModelCache<Class<?>, ClassModel> classes;
 
     private final ClassParser classParser;
 
@@ -44,6 +43,7 @@ public class MappingContext {
         Objects.requireNonNull(jsonbContext);
         this.jsonbContext = jsonbContext;
         this.classParser = new ClassParser(jsonbContext);
+        this.classes = new ModelCache<>(jsonbContext.getConfigProperties().getTypeCacheSize(), clazz -> clazz);
     }
 
     /**
@@ -152,4 +152,20 @@ public class MappingContext {
         return classes.get(clazz);
     }
 
+    /**
+     * Remove the class model of the given class. Class models of its subclasses are kept.
+     *
+     * @param clazz class to remove the model of
+     */
+    public void evict(Class<?> clazz) {
+        classes.evict(clazz);
+    }
+
+    /**
+     * Remove all the class models.
+     */
+    public void clear() {
+        classes.clear();
+    }
+
 }
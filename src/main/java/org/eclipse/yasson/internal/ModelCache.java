@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Cache of the models keyed by the type they were created for.
+ * <br>
+ * Models of the plain classes are kept by {@link ClassValue}, so the cache does not prevent the classes
+ * from being unloaded. Models of the other types, such as parameterized types, are kept in the map of the limited size.
+ * Least recently used models are evicted from it once the limit is exceeded.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the model
+ */
+public final class ModelCache<K, V> {
+
+    private final Function<K, Type> keyType;
+    private final int maxSize;
+    private final Map<K, Entry<V>> typeModels = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private volatile ClassValue<Map<K, V>> classModels = newClassModels();
+
+    /**
+     * Create new cache.
+     *
+     * @param maxSize maximum number of the models of the types other than plain classes
+     * @param keyType resolves the type the key was created for
+     */
+    public ModelCache(int maxSize, Function<K, Type> keyType) {
+        this.maxSize = maxSize;
+        this.keyType = keyType;
+    }
+
+    /**
+     * Cached model of the key.
+     *
+     * @param key key of the model
+     * @return cached model or null
+     */
+    public V get(K key) {
+        Type type = keyType.apply(key);
+        if (type instanceof Class) {
+            return classModels.get((Class<?>) type).get(key);
+        }
+        Entry<V> entry = typeModels.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch(clock.get());
+        return entry.value;
+    }
+
+    /**
+     * Cache the model of the key.
+     *
+     * @param key   key of the model
+     * @param value model to cache
+     */
+    public void put(K key, V value) {
+        Type type = keyType.apply(key);
+        if (type instanceof Class) {
+            classModels.get((Class<?>) type).put(key, value);
+            return;
+        }
+        typeModels.put(key, new Entry<>(value, clock.incrementAndGet()));
+        if (typeModels.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Cached model of the key, the model is created if not cached yet. Models of the plain classes are created once,
+     * models of the other types may be created more than once by concurrent calls.
+     *
+     * @param key     key of the model
+     * @param creator creates the model
+     * @return cached or created model
+     */
+    public V computeIfAbsent(K key, Function<K, V> creator) {
+        Type type = keyType.apply(key);
+        if (type instanceof Class) {
+            return classModels.get((Class<?>) type).computeIfAbsent(key, creator);
+        }
+        V value = get(key);
+        if (value == null) {
+            value = creator.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove all the models of the class and of the types other than plain classes it is part of,
+     * such as the parameterized types with the class as a type argument.
+     *
+     * @param clazz class to remove the models of
+     */
+    public void evict(Class<?> clazz) {
+        classModels.remove(clazz);
+        typeModels.keySet().removeIf(key -> refersTo(keyType.apply(key), clazz));
+    }
+
+    /**
+     * Remove all the models.
+     */
+    public void clear() {
+        classModels = newClassModels();
+        typeModels.clear();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        //single eviction at a time is enough, concurrent puts are evicted by the next one
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int toEvict = typeModels.size() - (maxSize - maxSize / 4);
+            if (toEvict <= 0) {
+                return;
+            }
+            List<Map.Entry<K, Entry<V>>> entries = new ArrayList<>(typeModels.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsed));
+            for (int i = 0; i < toEvict && i < entries.size(); i++) {
+                Map.Entry<K, Entry<V>> entry = entries.get(i);
+                typeModels.remove(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static boolean refersTo(Type type, Class<?> clazz) {
+        if (type == clazz) {
+            return true;
+        } else if (type instanceof Class) {
+            return ((Class<?>) type).isArray() && refersTo(((Class<?>) type).getComponentType(), clazz);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (refersTo(parameterizedType.getRawType(), clazz) || refersTo(parameterizedType.getOwnerType(), clazz)) {
+                return true;
+            }
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (refersTo(argument, clazz)) {
+                    return true;
+                }
+            }
+        } else if (type instanceof GenericArrayType) {
+            return refersTo(((GenericArrayType) type).getGenericComponentType(), clazz);
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                if (refersTo(bound, clazz)) {
+                    return true;
+                }
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                if (refersTo(bound, clazz)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <K, V> ClassValue<Map<K, V>> newClassModels() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<K, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>(2);
+            }
+        };
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastUsed;
+
+        private Entry(V value, long lastUsed) {
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+
+        private void touch(long now) {
+            //avoid writing the shared entry when it has been used since the last put already
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+
+    }
+
+}
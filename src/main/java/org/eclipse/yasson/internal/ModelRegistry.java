@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.json.bind.JsonbConfig;
+
+import org.eclipse.yasson.YassonConfig;
+import org.eclipse.yasson.internal.components.DefaultConstructorCreator;
+import org.eclipse.yasson.internal.deserializer.DeserializationModelCreator;
+import org.eclipse.yasson.internal.serializer.SerializationModelCreator;
+
+/**
+ * Process wide registry of the class models, deserializers and serializers.
+ * <br>
+ * Jsonb instances with {@link YassonConfig#SHARED_MODELS} enabled, whose configuration differs only by the output
+ * settings, such as formatting or encoding, share the same models. Models are kept only as long as some Jsonb instance
+ * uses them. Models are not shared if the user components are created by other than the default instance creator,
+ * such as CDI, since such components are bound to the lifecycle of the Jsonb instance.
+ */
+final class ModelRegistry {
+
+    /**
+     * Properties which do not affect the models.
+     */
+    private static final Set<String> OUTPUT_PROPERTIES = Set.of(JsonbConfig.FORMATTING,
+                                                                JsonbConfig.ENCODING,
+                                                                YassonConfig.EAGER_PARSE_CLASSES,
+                                                                YassonConfig.OUTPUT_BUFFER_POOL_SIZE,
+                                                                YassonConfig.MAX_DEPTH,
+                                                                YassonConfig.SHARED_MODELS);
+
+    private static final Map<Key, ModelsReference> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<Models> RELEASED = new ReferenceQueue<>();
+
+    private ModelRegistry() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Models used by the given context. Existing models are returned, if they were created for a compatible context.
+     *
+     * @param jsonbContext context to get the models for
+     * @return models of the context
+     */
+    static Models models(JsonbContext jsonbContext) {
+        if (!jsonbContext.getConfigProperties().isSharedModels()
+                || jsonbContext.getComponentInstanceCreator().getClass() != DefaultConstructorCreator.class) {
+            return new Models(jsonbContext);
+        }
+        expungeReleased();
+        Key key = new Key(jsonbContext);
+        ModelsReference reference = REGISTRY.get(key);
+        Models models = reference == null ? null : reference.get();
+        if (models != null) {
+            return models;
+        }
+        Models created = new Models(jsonbContext);
+        //another context of the same key may have been created meanwhile, use its models then
+        Models registered = REGISTRY.compute(key, (k, existing) -> {
+            if (existing != null && existing.get() != null) {
+                return existing;
+            }
+            return new ModelsReference(k, created);
+        }).get();
+        return registered == null ? created : registered;
+    }
+
+    private static void expungeReleased() {
+        ModelsReference released;
+        while ((released = (ModelsReference) RELEASED.poll()) != null) {
+            REGISTRY.remove(released.key, released);
+        }
+    }
+
+    /**
+     * Class models, deserializers and serializers created for the single configuration.
+     */
+    static final class Models {
+
+        private final MappingContext mappingContext;
+        private final DeserializationModelCreator deserializationModelCreator;
+        private final SerializationModelCreator serializationModelCreator;
+
+        private Models(JsonbContext jsonbContext) {
+            this.mappingContext = new MappingContext(jsonbContext);
+            this.deserializationModelCreator = new DeserializationModelCreator(jsonbContext);
+            this.serializationModelCreator = new SerializationModelCreator(jsonbContext);
+        }
+
+        MappingContext getMappingContext() {
+            return mappingContext;
+        }
+
+        DeserializationModelCreator getDeserializationModelCreator() {
+            return deserializationModelCreator;
+        }
+
+        SerializationModelCreator getSerializationModelCreator() {
+            return serializationModelCreator;
+        }
+
+    }
+
+    private static final class ModelsReference extends WeakReference<Models> {
+
+        private final Key key;
+
+        private ModelsReference(Key key, Models models) {
+            super(models, RELEASED);
+            this.key = key;
+        }
+
+    }
+
+    /**
+     * Fingerprint of the configuration, which affects the models.
+     * User components, such as adapters or strategies, are compared by identity.
+     */
+    private static final class Key {
+
+        private final Class<?> providerClass;
+        private final Map<String, Object> properties;
+        private final int hashCode;
+
+        private Key(JsonbContext jsonbContext) {
+            this.providerClass = jsonbContext.getJsonProvider().getClass();
+            Map<String, Object> properties = new HashMap<>();
+            jsonbContext.getConfig().getAsMap().forEach((name, value) -> {
+                if (!OUTPUT_PROPERTIES.contains(name)) {
+                    properties.put(name, value instanceof Object[] ? Arrays.asList((Object[]) value) : value);
+                }
+            });
+            this.properties = properties;
+            this.hashCode = Objects.hash(providerClass, properties);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return providerClass == key.providerClass && properties.equals(key.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
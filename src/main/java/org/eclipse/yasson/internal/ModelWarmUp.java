@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.IOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.WarmUpReport;
+import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.PropertyModel;
+
+/**
+ * Prepares class models, deserializers and serializers of the types before their first use.
+ * <br>
+ * Starting from the root types, all the types reachable through the properties are prepared in parallel
+ * by the {@link ForkJoinPool#commonPool()}. JDK and Jakarta types are not prepared, their handling is built in.
+ */
+class ModelWarmUp {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final List<String> SKIPPED_PACKAGES = List.of("java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun.");
+
+    private final JsonbContext jsonbContext;
+    private final Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, Duration> typeTimes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+
+    ModelWarmUp(JsonbContext jsonbContext) {
+        this.jsonbContext = jsonbContext;
+    }
+
+    /**
+     * Prepare the root types and all the types reachable from them.
+     *
+     * @param rootTypes types to start from
+     * @return warm-up report
+     */
+    WarmUpReport warmUp(Collection<Class<?>> rootTypes) {
+        long start = System.nanoTime();
+        List<WarmUpTask> tasks = new ArrayList<>();
+        for (Class<?> rootType : rootTypes) {
+            collectTypes(rootType, tasks);
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return new Report(typeTimes, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Find all the classes of the given packages and their sub-packages.
+     *
+     * @param classLoader  class loader to load the classes with
+     * @param packageNames packages to scan
+     * @return found classes
+     */
+    static Set<Class<?>> scanPackages(ClassLoader classLoader, String... packageNames) {
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String packageName : packageNames) {
+            String path = packageName.replace('.', '/');
+            try {
+                Enumeration<URL> resources = classLoader.getResources(path);
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    if ("file".equals(resource.getProtocol())) {
+                        scanDirectory(Paths.get(resource.toURI()), packageName, classNames);
+                    } else if ("jar".equals(resource.getProtocol())) {
+                        scanJar(resource, path, classNames);
+                    }
+                }
+            } catch (IOException | URISyntaxException e) {
+                throw new JsonbException("Unable to scan package: " + packageName, e);
+            }
+        }
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            try {
+                Class<?> clazz = Class.forName(className, false, classLoader);
+                if (!clazz.isAnonymousClass() && !clazz.isLocalClass() && !clazz.isSynthetic() && !clazz.isAnnotation()) {
+                    classes.add(clazz);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                //class is not usable in this environment, so it cannot be serialized either
+            }
+        }
+        return classes;
+    }
+
+    private static void scanDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .forEach(file -> {
+                        String relative = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+                        addClassName(packageName + "." + relative, classNames);
+                    });
+        }
+    }
+
+    private static void scanJar(URL resource, String path, Set<String> classNames) throws IOException {
+        JarURLConnection connection = (JarURLConnection) resource.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX)) {
+                    addClassName(name.replace('/', '.'), classNames);
+                }
+            }
+        }
+    }
+
+    private static void addClassName(String fileName, Set<String> classNames) {
+        String className = fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+        if (!className.endsWith("module-info") && !className.endsWith("package-info")) {
+            classNames.add(className);
+        }
+    }
+
+    private static boolean isPrepared(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isAnnotation()) {
+            return false;
+        }
+        String name = type.getName();
+        for (String skipped : SKIPPED_PACKAGES) {
+            if (name.startsWith(skipped)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectTypes(Type type, List<WarmUpTask> tasks) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (isPrepared(clazz) && visited.add(clazz)) {
+                tasks.add(new WarmUpTask(clazz));
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            collectTypes(parameterizedType.getRawType(), tasks);
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                collectTypes(argument, tasks);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectTypes(((GenericArrayType) type).getGenericComponentType(), tasks);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                collectTypes(bound, tasks);
+            }
+        }
+    }
+
+    private final class WarmUpTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> type;
+
+        private WarmUpTask(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        protected void compute() {
+            long start = System.nanoTime();
+            ClassModel classModel;
+            try {
+                classModel = jsonbContext.getMappingContext().getOrCreateClassModel(type);
+                jsonbContext.getChainModelCreator().deserializerChain(type);
+                jsonbContext.getSerializationModelCreator().serializerChain(type, true, true);
+            } catch (RuntimeException | LinkageError e) {
+                //type which cannot be linked does not stop the warm-up of the other types
+                failures.put(type, e);
+                return;
+            }
+            typeTimes.put(type, Duration.ofNanos(System.nanoTime() - start));
+            List<WarmUpTask> tasks = new ArrayList<>();
+            for (ClassModel model = classModel; model != null; model = model.getParentClassModel()) {
+                for (PropertyModel propertyModel : model.getProperties().values()) {
+                    collectTypes(propertyModel.getPropertySerializationType(), tasks);
+                    collectTypes(propertyModel.getPropertyDeserializationType(), tasks);
+                }
+            }
+            invokeAll(tasks);
+        }
+
+    }
+
+    private static final class Report implements WarmUpReport {
+
+        private final Map<Class<?>, Duration> typeTimes;
+        private final Map<Class<?>, Throwable> failures;
+        private final Duration totalTime;
+
+        private Report(Map<Class<?>, Duration> typeTimes, Map<Class<?>, Throwable> failures, Duration totalTime) {
+            Map<Class<?>, Duration> sorted = new LinkedHashMap<>();
+            typeTimes.entrySet().stream()
+                    .sorted(Map.Entry.<Class<?>, Duration>comparingByValue().reversed())
+                    .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            this.typeTimes = Collections.unmodifiableMap(sorted);
+            this.failures = Map.copyOf(failures);
+            this.totalTime = totalTime;
+        }
+
+        @Override
+        public Map<Class<?>, Duration> getTypeTimes() {
+            return typeTimes;
+        }
+
+        @Override
+        public Map<Class<?>, Throwable> getFailures() {
+            return failures;
+        }
+
+        @Override
+        public Duration getTotalTime() {
+            return totalTime;
+        }
+
+    }
+
+}
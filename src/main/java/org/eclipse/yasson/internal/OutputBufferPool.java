@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.yasson.OutputBufferStatistics;
+
+/**
+ * Pool of the output buffers used for serialization to {@link String} and byte array.
+ * <br>
+ * Buffer is taken out of the {@link StripedPool} for the whole serialization, so it is never shared.
+ * Size of the output is tracked per root type and new or reused buffers are presized to the expected size
+ * to avoid copying while the buffer grows.
+ */
+final class OutputBufferPool implements OutputBufferStatistics {
+
+    private static final int MIN_CAPACITY = 256;
+    //larger buffers are not kept in the pool to limit the retained memory
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private final StripedPool<PooledWriter> pool;
+    //estimates are kept by the class itself, so they do not prevent the class from being unloaded
+    private final ClassValue<AtomicInteger> sizeEstimates = new ClassValue<>() {
+        @Override
+        protected AtomicInteger computeValue(Class<?> type) {
+            return new AtomicInteger();
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create new pool.
+     *
+     * @param poolSize requested number of the pooled buffers, rounded up to the power of two, 0 disables pooling
+     */
+    OutputBufferPool(int poolSize) {
+        this.pool = new StripedPool<>(poolSize);
+    }
+
+    /**
+     * Obtain buffer for the serialization of the given root type.
+     *
+     * @param rootType type of the serialized root value, may be null
+     * @return empty buffer
+     */
+    PooledWriter acquire(Class<?> rootType) {
+        int estimate = estimate(rootType);
+        PooledWriter writer = pool.acquire();
+        if (writer != null) {
+            hits.increment();
+            writer.reset(estimate);
+            return writer;
+        }
+        misses.increment();
+        return new PooledWriter(estimate);
+    }
+
+    /**
+     * Return buffer to the pool after its content has been consumed.
+     *
+     * @param rootType type of the serialized root value, null if the size of the output should not be recorded
+     * @param writer   buffer to return
+     */
+    void release(Class<?> rootType, PooledWriter writer) {
+        if (rootType != null) {
+            AtomicInteger estimate = sizeEstimates.get(rootType);
+            int previous = estimate.get();
+            //moving average of the sizes up to the largest retained buffer, single large output does not inflate it
+            int size = Math.min(writer.size, MAX_RETAINED_CAPACITY);
+            estimate.set(previous == 0 ? size : previous + ((size - previous) >> 3));
+        }
+        if (writer.chars.length <= MAX_RETAINED_CAPACITY) {
+            pool.release(writer);
+        }
+    }
+
+    private int estimate(Class<?> rootType) {
+        if (rootType == null) {
+            return MIN_CAPACITY;
+        }
+        int expected = sizeEstimates.get(rootType).get();
+        return Math.max(MIN_CAPACITY, Math.min(MAX_RETAINED_CAPACITY, expected + (expected >> 3)));
+    }
+
+    @Override
+    public int getPoolSize() {
+        return pool.size();
+    }
+
+    @Override
+    public int getPooledBuffers() {
+        return pool.pooled();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Growable character buffer. Unlike {@link java.io.StringWriter} it is not synchronized and it can be reused.
+     */
+    static final class PooledWriter extends Writer {
+
+        private char[] chars;
+        private int size;
+
+        private PooledWriter(int capacity) {
+            this.chars = new char[capacity];
+        }
+
+        private void reset(int capacity) {
+            if (chars.length < capacity) {
+                chars = new char[capacity];
+            }
+            size = 0;
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = size + additional;
+            if (required > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(required, chars.length << 1));
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            ensureCapacity(1);
+            chars[size++] = (char) c;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(buffer, offset, chars, size, length);
+            size += length;
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            ensureCapacity(length);
+            string.getChars(offset, offset + length, chars, size);
+            size += length;
+        }
+
+        @Override
+        public void flush() {
+            //nothing to flush
+        }
+
+        @Override
+        public void close() {
+            //buffer stays usable after the generator is closed
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, size);
+        }
+
+        /**
+         * Encode the buffer content. UTF-8 is encoded straight into the array of the exact size,
+         * other encodings go through the {@link String}.
+         *
+         * @param charset encoding of the bytes
+         * @return encoded buffer content
+         */
+        byte[] toBytes(Charset charset) {
+            if (!StandardCharsets.UTF_8.equals(charset)) {
+                return toString().getBytes(charset);
+            }
+            byte[] bytes = new byte[utf8Length()];
+            int position = 0;
+            for (int i = 0; i < size; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    bytes[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[position++] = (byte) (0xC0 | (c >> 6));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (isSurrogatePair(i)) {
+                    int codePoint = Character.toCodePoint(c, chars[i + 1]);
+                    i++;
+                    bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    //unpaired surrogate is replaced the same way as by the UTF-8 encoder
+                    bytes[position++] = '?';
+                } else {
+                    bytes[position++] = (byte) (0xE0 | (c >> 12));
+                    bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return bytes;
+        }
+
+        private int utf8Length() {
+            int length = size;
+            for (int i = 0; i < size; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    continue;
+                }
+                if (c < 0x800) {
+                    length += 1;
+                } else if (isSurrogatePair(i)) {
+                    //two chars are encoded to four bytes
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            }
+            return length;
+        }
+
+        private boolean isSurrogatePair(int index) {
+            return Character.isHighSurrogate(chars[index]) && index + 1 < size && Character.isLowSurrogate(chars[index + 1]);
+        }
+
+    }
+
+}
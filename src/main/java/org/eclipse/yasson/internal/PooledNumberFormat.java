@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * Thread safe number format of the {@link jakarta.json.bind.annotation.JsonbNumberFormat} pattern.
+ * <br>
+ * {@link NumberFormat} is not thread safe, so every call uses its own copy of the format taken out
+ * of the {@link StripedPool}. Copies are cloned from the prototype, which is never used directly,
+ * so the pattern is parsed only once.
+ */
+public final class PooledNumberFormat {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final NumberFormat prototype;
+    private final StripedPool<NumberFormat> pool = new StripedPool<>(POOL_SIZE);
+
+    /**
+     * Create new format.
+     *
+     * @param pattern     {@link DecimalFormat} pattern
+     * @param locale      locale of the format
+     * @param integerOnly whether only the integer part is parsed
+     */
+    public PooledNumberFormat(String pattern, Locale locale, boolean integerOnly) {
+        NumberFormat format = NumberFormat.getInstance(locale);
+        ((DecimalFormat) format).applyPattern(pattern);
+        format.setParseIntegerOnly(integerOnly);
+        this.prototype = format;
+    }
+
+    /**
+     * Format the number.
+     *
+     * @param number number to format
+     * @return formatted number
+     */
+    public String format(Object number) {
+        NumberFormat format = acquire();
+        try {
+            return format.format(number);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    /**
+     * Parse the number.
+     *
+     * @param value value to parse
+     * @return parsed number
+     * @throws ParseException if the beginning of the value cannot be parsed
+     */
+    public Number parse(String value) throws ParseException {
+        NumberFormat format = acquire();
+        try {
+            return format.parse(value);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    private NumberFormat acquire() {
+        NumberFormat format = pool.acquire();
+        //cloning only reads the prototype, so it is safe to do concurrently
+        return format == null ? (NumberFormat) prototype.clone() : format;
+    }
+
+}
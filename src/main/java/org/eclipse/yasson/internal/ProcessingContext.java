@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -26,8 +26,9 @@ public abstract class ProcessingContext {
     /**
      * Used to avoid StackOverflowError, when adapted / serialized object
      * contains instance of its type inside it or when object has recursive reference.
+     * Created when the first object is added, since most of the contexts never use it.
      */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
+    private Set<Object> currentlyProcessedObjects;
 
     /**
      * Parent for marshaller and unmarshaller.
@@ -63,6 +64,9 @@ public abstract class ProcessingContext {
      * @return if object was added
      */
     public boolean addProcessedObject(Object object) {
+        if (currentlyProcessedObjects == null) {
+            currentlyProcessedObjects = new HashSet<>();
+        }
         return this.currentlyProcessedObjects.add(object);
     }
 
@@ -73,7 +77,16 @@ public abstract class ProcessingContext {
      * @return if object was removed
      */
     public boolean removeProcessedObject(Object object) {
-        return currentlyProcessedObjects.remove(object);
+        return currentlyProcessedObjects != null && currentlyProcessedObjects.remove(object);
+    }
+
+    /**
+     * Remove all the objects left over by the processing, which has not finished successfully.
+     */
+    void clearProcessedObjects() {
+        if (currentlyProcessedObjects != null) {
+            currentlyProcessedObjects.clear();
+        }
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -30,6 +30,7 @@ import java.util.logging.Logger;
 
 import jakarta.json.bind.JsonbException;
 
+import org.eclipse.yasson.internal.model.InstanceSupplier;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -289,6 +290,22 @@ public class ReflectionUtils {
         }
     }
 
+    /**
+     * Create instance with the instance supplier.
+     *
+     * @param supplier instance supplier not null
+     * @return instance
+     */
+    public static Object createInstance(InstanceSupplier supplier) {
+        try {
+            return supplier.newInstance();
+        } catch (JsonbException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JsonbException("Can't create instance", e);
+        }
+    }
+
     /**
      * Get default no argument constructor of the class.
      *
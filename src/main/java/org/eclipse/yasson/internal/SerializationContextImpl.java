@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2020 Payara Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -14,9 +14,10 @@
 package org.eclipse.yasson.internal;
 
 import java.lang.reflect.Type;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import jakarta.json.bind.JsonbException;
@@ -35,13 +36,22 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
 
     private static final Logger LOGGER = Logger.getLogger(SerializationContextImpl.class.getName());
 
+    /**
+     * Number of the processed objects kept on the identity stack, deeper objects are kept in the identity map.
+     */
+    private static final int STACK_DEPTH = 16;
+
     /**
      * Used to avoid StackOverflowError, when adapted / serialized object
      * contains instance of its type inside it or when object has recursive reference.
+     * Objects are compared by identity, so user {@code equals} and {@code hashCode} are never called.
      */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
+    private final Object[] processedStack = new Object[STACK_DEPTH];
+    private Map<Object, Boolean> deepProcessedObjects;
+    private int depth;
+    private final int maxDepth;
 
-    private final Type runtimeType;
+    private Type runtimeType;
     private String key = null;
     private boolean containerWithNulls = true;
     private boolean root = true;
@@ -55,6 +65,7 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
     public SerializationContextImpl(JsonbContext jsonbContext, Type rootRuntimeType) {
         super(jsonbContext);
         this.runtimeType = rootRuntimeType;
+        this.maxDepth = jsonbContext.getConfigProperties().getMaxDepth();
     }
 
     /**
@@ -66,6 +77,24 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
         this(jsonbContext, null);
     }
 
+    /**
+     * Reset this context, so it can be reused for another serialization.
+     *
+     * @param rootRuntimeType Type of root object.
+     */
+    void reset(Type rootRuntimeType) {
+        this.runtimeType = rootRuntimeType;
+        this.key = null;
+        this.containerWithNulls = true;
+        this.root = true;
+        if (depth > 0) {
+            Arrays.fill(processedStack, null);
+            deepProcessedObjects = null;
+            depth = 0;
+        }
+        clearProcessedObjects();
+    }
+
     /**
      * Set new current property key name.
      *
@@ -209,24 +238,60 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
     }
 
     /**
-     * Adds currently processed object to the {@link Set}.
+     * Adds currently processed object to the stack of the objects being serialized.
+     * Only the identity stack is searched for the first {@value #STACK_DEPTH} nested objects,
+     * deeper objects are tracked in the identity map.
      *
      * @param object processed object
-     * @return if object was added
+     * @return if object was added, false if the same instance is already being processed
+     * @throws JsonbException if the configured maximum depth would be exceeded
      */
+    @Override
     public boolean addProcessedObject(Object object) {
-        return this.currentlyProcessedObjects.add(object);
+        int stackSize = Math.min(depth, STACK_DEPTH);
+        for (int i = 0; i < stackSize; i++) {
+            if (processedStack[i] == object) {
+                return false;
+            }
+        }
+        if (depth > STACK_DEPTH && deepProcessedObjects.containsKey(object)) {
+            return false;
+        }
+        if (depth >= maxDepth) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.MAX_DEPTH_EXCEEDED,
+                                                         String.valueOf(maxDepth),
+                                                         object.getClass()));
+        }
+        if (depth < STACK_DEPTH) {
+            processedStack[depth] = object;
+        } else {
+            if (deepProcessedObjects == null) {
+                deepProcessedObjects = new IdentityHashMap<>();
+            }
+            deepProcessedObjects.put(object, Boolean.TRUE);
+        }
+        depth++;
+        return true;
     }
 
     /**
-     * Removes processed object from the {@link Set}.
+     * Removes processed object from the stack of the objects being serialized.
+     * Objects have to be removed in the reverse order they were added.
      *
      * @param object processed object
      * @return if object was removed
      */
+    @Override
     public boolean removeProcessedObject(Object object) {
-        return currentlyProcessedObjects.remove(object);
+        if (depth == 0) {
+            return false;
+        }
+        depth--;
+        if (depth < STACK_DEPTH) {
+            processedStack[depth] = null;
+            return true;
+        }
+        return deepProcessedObjects.remove(object) != null;
     }
 
-
 }
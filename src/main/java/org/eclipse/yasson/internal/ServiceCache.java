@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.ref.SoftReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.json.spi.JsonProvider;
+
+import org.eclipse.yasson.internal.components.JsonbComponentInstanceCreatorFactory;
+import org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
+
+/**
+ * Results of the service lookups done during the Jsonb instance creation, cached per context class loader.
+ * <br>
+ * Service lookup scans the service descriptors of the whole class path, which makes it the most expensive part
+ * of the Jsonb instance creation. Class loaders are referenced weakly and the cached results softly,
+ * so the cache does not keep an unused class loader beyond the next memory pressure.
+ */
+final class ServiceCache {
+
+    private static final Map<ClassLoader, SoftReference<JsonProvider>> JSON_PROVIDERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Map<ClassLoader, SoftReference<Supplier<JsonbComponentInstanceCreator>>> INSTANCE_CREATORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ServiceCache() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * JSONP provider of the current context class loader. Provider instance is shared, since it is thread safe.
+     *
+     * @return JSONP provider
+     */
+    static JsonProvider jsonProvider() {
+        return lookup(JSON_PROVIDERS, classLoader -> JsonProvider.provider());
+    }
+
+    /**
+     * Creates new component instance creator with the highest priority visible to the current context class loader.
+     * New instance is created for every call, since the instance creator is closed together with its Jsonb instance.
+     *
+     * @return component instance creator
+     */
+    static JsonbComponentInstanceCreator componentInstanceCreator() {
+        return lookup(INSTANCE_CREATORS, ServiceCache::findInstanceCreator).get();
+    }
+
+    private static <T> T lookup(Map<ClassLoader, SoftReference<T>> cache, Function<ClassLoader, T> lookup) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        SoftReference<T> reference = cache.get(classLoader);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            //concurrent lookups of the same class loader find the same services, so the last one wins
+            value = lookup.apply(classLoader);
+            cache.put(classLoader, new SoftReference<>(value));
+        }
+        return value;
+    }
+
+    private static Supplier<JsonbComponentInstanceCreator> findInstanceCreator(ClassLoader classLoader) {
+        ServiceLoader<JsonbComponentInstanceCreator> loader = AccessController
+                .doPrivileged((PrivilegedAction<ServiceLoader<JsonbComponentInstanceCreator>>) () -> ServiceLoader
+                        .load(JsonbComponentInstanceCreator.class, classLoader));
+        ServiceLoader.Provider<JsonbComponentInstanceCreator> selected = null;
+        int selectedPriority = 0;
+        List<ServiceLoader.Provider<JsonbComponentInstanceCreator>> providers = loader.stream().collect(Collectors.toList());
+        for (ServiceLoader.Provider<JsonbComponentInstanceCreator> provider : providers) {
+            int priority = provider.get().getPriority();
+            //the first one of the highest priority wins
+            if (selected == null || priority > selectedPriority) {
+                selected = provider;
+                selectedPriority = priority;
+            }
+        }
+        if (selected == null) {
+            // No service provider found - use the defaults
+            return JsonbComponentInstanceCreatorFactory::getComponentInstanceCreator;
+        }
+        return selected::get;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Ensures that the model of the same key is built only once, even if it is requested by many threads at once.
+ * <br>
+ * The first thread builds the model, all the other threads wait for its result. Only threads which are not building
+ * any other model wait. Model requested while another model is being built, such as the model of the adapted type
+ * or of the recursive reference, is built directly by the requesting thread. Waiting thread therefore never holds
+ * a model another thread could wait for, so the building is deadlock free.
+ *
+ * @param <K> model key type
+ * @param <V> model type
+ */
+public final class SingleFlight<K, V> {
+
+    //shared by all the instances, since building of one model may request model of the other kind
+    private static final ThreadLocal<int[]> BUILDING = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Build the model of the given key, or wait for the model being built by another thread.
+     * Builder is expected to cache the built model, so it is not built again once this method returns.
+     *
+     * @param key     model key
+     * @param builder builder of the model
+     * @return built model
+     */
+    public V build(K key, Supplier<V> builder) {
+        int[] building = BUILDING.get();
+        if (building[0] > 0) {
+            return buildDirectly(building, builder);
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                //failed in the other thread, build again to report the failure from this thread
+                return buildDirectly(building, builder);
+            }
+        }
+        try {
+            V model = buildDirectly(building, builder);
+            flight.complete(model);
+            return model;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V buildDirectly(int[] building, Supplier<V> builder) {
+        building[0]++;
+        try {
+            return builder.get();
+        } finally {
+            building[0]--;
+        }
+    }
+
+}
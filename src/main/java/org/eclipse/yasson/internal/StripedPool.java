@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of the reusable objects.
+ * <br>
+ * Objects are held in the slots selected by the id of the current thread, so the pool does not depend on thread locals
+ * and it is shared by the platform as well as the virtual threads. Object is taken out of the slot while it is used,
+ * so it is never shared by two threads or by the nested calls of the same thread.
+ *
+ * @param <T> type of the pooled objects
+ */
+final class StripedPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    /**
+     * Create new pool.
+     *
+     * @param size requested number of the slots, rounded up to the power of two, 0 disables pooling
+     */
+    StripedPool(int size) {
+        int slotCount = size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Take the object out of the pool.
+     *
+     * @return pooled object or null if there is none available
+     */
+    T acquire() {
+        return mask < 0 ? null : slots.getAndSet(slot(), null);
+    }
+
+    /**
+     * Return the object to the pool. Object is dropped if the slot is already occupied.
+     *
+     * @param object object to return
+     */
+    void release(T object) {
+        if (mask >= 0) {
+            slots.compareAndSet(slot(), null, object);
+        }
+    }
+
+    /**
+     * Number of the slots.
+     *
+     * @return pool size
+     */
+    int size() {
+        return slots.length();
+    }
+
+    /**
+     * Number of the objects currently held by the pool.
+     *
+     * @return number of pooled objects
+     */
+    int pooled() {
+        int pooled = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                pooled++;
+            }
+        }
+        return pooled;
+    }
+
+    private int slot() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & mask;
+    }
+
+}
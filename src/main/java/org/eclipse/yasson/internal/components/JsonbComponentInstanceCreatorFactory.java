@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -61,7 +61,7 @@ public class JsonbComponentInstanceCreatorFactory {
             beanManager = getJndiBeanManager();
         }
         if (beanManager == null) {
-            LOGGER.finest(Messages.getMessage(MessageKeys.BEAN_MANAGER_NOT_FOUND_USING_DEFAULT));
+            LOGGER.finest(() -> Messages.getMessage(MessageKeys.BEAN_MANAGER_NOT_FOUND_USING_DEFAULT));
             return new DefaultConstructorCreator();
         }
         return new BeanManagerInstanceCreator(beanManager);
@@ -86,7 +86,7 @@ public class JsonbComponentInstanceCreatorFactory {
                     return getBeanManager.invoke(cdiObject);
                 });
             } catch (ClassNotFoundException e) {
-                LOGGER.finest(Messages.getMessage(MessageKeys.NO_CDI_API_PROVIDER, CDI_SPI_CLASS));
+                LOGGER.finest(() -> Messages.getMessage(MessageKeys.NO_CDI_API_PROVIDER, CDI_SPI_CLASS));
                 return null;
             }
         });
@@ -108,7 +108,7 @@ public class JsonbComponentInstanceCreatorFactory {
                     return lookupMethod.invoke(initialContextObject, BEAN_MANAGER_NAME);
                 });
             } catch (ClassNotFoundException e) {
-                LOGGER.finest(Messages.getMessage(MessageKeys.NO_JNDI_ENVIRONMENT, INITIAL_CONTEXT_CLASS));
+                LOGGER.finest(() -> Messages.getMessage(MessageKeys.NO_JNDI_ENVIRONMENT, INITIAL_CONTEXT_CLASS));
                 return null;
             }
         });
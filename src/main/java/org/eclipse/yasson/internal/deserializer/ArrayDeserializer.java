@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -45,8 +45,12 @@ class ArrayDeserializer implements ModelDeserializer<JsonParser> {
             case VALUE_FALSE:
             case VALUE_NUMBER:
             case VALUE_NULL:
-                DeserializationContextImpl newContext = new DeserializationContextImpl(context);
-                collection.add(delegate.deserialize(parser, newContext));
+                DeserializationContextImpl newContext = context.nestedContext();
+                try {
+                    collection.add(delegate.deserialize(parser, newContext));
+                } finally {
+                    newContext.release();
+                }
                 break;
             case END_ARRAY:
                 return collection;
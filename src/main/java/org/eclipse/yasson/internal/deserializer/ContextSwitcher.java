@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -32,9 +32,13 @@ class ContextSwitcher implements ModelDeserializer<JsonParser> {
 
     @Override
     public Object deserialize(JsonParser value, DeserializationContextImpl context) {
-        DeserializationContextImpl ctx = new DeserializationContextImpl(context);
-        Object returnedValue = delegate.deserialize(modelDeserializer.deserialize(value, ctx), context);
-        context.setLastValueEvent(ctx.getLastValueEvent());
-        return returnedValue;
+        DeserializationContextImpl ctx = context.nestedContext();
+        try {
+            Object returnedValue = delegate.deserialize(modelDeserializer.deserialize(value, ctx), context);
+            context.setLastValueEvent(ctx.getLastValueEvent());
+            return returnedValue;
+        } finally {
+            ctx.release();
+        }
     }
 }
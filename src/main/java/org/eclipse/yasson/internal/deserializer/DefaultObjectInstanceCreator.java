@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,14 +12,13 @@
 
 package org.eclipse.yasson.internal.deserializer;
 
-import java.lang.reflect.Constructor;
-
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.ClassMultiReleaseExtension;
 import org.eclipse.yasson.internal.DeserializationContextImpl;
 import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.model.InstanceSupplier;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -29,17 +28,17 @@ import org.eclipse.yasson.internal.properties.Messages;
 class DefaultObjectInstanceCreator implements ModelDeserializer<JsonParser> {
 
     private final ModelDeserializer<JsonParser> delegate;
-    private final Constructor<?> defaultConstructor;
+    private final InstanceSupplier instanceSupplier;
     private final JsonbException exception;
 
     DefaultObjectInstanceCreator(ModelDeserializer<JsonParser> delegate,
                                  Class<?> clazz,
-                                 Constructor<?> defaultConstructor) {
+                                 InstanceSupplier instanceSupplier) {
         this.delegate = delegate;
-        this.defaultConstructor = defaultConstructor;
+        this.instanceSupplier = instanceSupplier;
         if (clazz.isInterface()) {
             this.exception = new JsonbException(Messages.getMessage(MessageKeys.INFER_TYPE_FOR_UNMARSHALL, clazz.getName()));
-        } else if (defaultConstructor == null) {
+        } else if (instanceSupplier == null) {
             this.exception = ClassMultiReleaseExtension.exceptionToThrow(clazz)
                     .orElse(new JsonbException(Messages.getMessage(MessageKeys.NO_DEFAULT_CONSTRUCTOR, clazz)));
         } else {
@@ -52,7 +51,7 @@ class DefaultObjectInstanceCreator implements ModelDeserializer<JsonParser> {
         if (exception != null) {
             throw exception;
         }
-        Object instance = ReflectionUtils.createNoArgConstructorInstance(defaultConstructor);
+        Object instance = ReflectionUtils.createInstance(instanceSupplier);
         context.setInstance(instance);
         return delegate.deserialize(value, context);
     }
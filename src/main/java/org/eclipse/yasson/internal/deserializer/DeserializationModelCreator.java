@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,6 +15,7 @@ package org.eclipse.yasson.internal.deserializer;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,7 +31,6 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,12 +44,15 @@ import org.eclipse.yasson.internal.JsonbConfigProperties;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.JsonbDateFormatter;
 import org.eclipse.yasson.internal.JsonbNumberFormatter;
+import org.eclipse.yasson.internal.ModelCache;
 import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.SingleFlight;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.DeserializerBinding;
 import org.eclipse.yasson.internal.deserializer.types.TypeDeserializers;
 import org.eclipse.yasson.internal.model.ClassModel;
 import org.eclipse.yasson.internal.model.CreatorModel;
+import org.eclipse.yasson.internal.model.InstanceSupplier;
 import org.eclipse.yasson.internal.model.JsonbCreator;
 import org.eclipse.yasson.internal.model.PropertyModel;
 import org.eclipse.yasson.internal.model.customization.ClassCustomization;
@@ -96,7 +99,8 @@ public class DeserializationModelCreator {
         DEFAULT_CREATOR_VALUES = Map.copyOf(tmpValuesMap);
     }
 
-    private final Map<CachedItem, ModelDeserializer<JsonParser>> models = new ConcurrentHashMap<>();
+    private final ModelCache<CachedItem, ModelDeserializer<JsonParser>> models;
+    private final SingleFlight<CachedItem, ModelDeserializer<JsonParser>> rootBuilds = new SingleFlight<>();
 
     private final JsonbContext jsonbContext;
     private final Map<Class<?>, Class<?>> userTypeMapping;
@@ -109,6 +113,23 @@ public class DeserializationModelCreator {
     public DeserializationModelCreator(JsonbContext jsonbContext) {
         this.jsonbContext = jsonbContext;
         this.userTypeMapping = jsonbContext.getConfigProperties().getUserTypeMapping();
+        this.models = new ModelCache<>(jsonbContext.getConfigProperties().getTypeCacheSize(), cachedItem -> cachedItem.type);
+    }
+
+    /**
+     * Remove the deserializers of the given class and of the parameterized types it is part of.
+     *
+     * @param clazz class to remove the deserializers of
+     */
+    public void evict(Class<?> clazz) {
+        models.evict(clazz);
+    }
+
+    /**
+     * Remove all the deserializers.
+     */
+    public void clear() {
+        models.clear();
     }
 
     /**
@@ -118,9 +139,15 @@ public class DeserializationModelCreator {
      * @return created deserializer
      */
     public ModelDeserializer<JsonParser> deserializerChain(Type type) {
-        LinkedList<Type> chain = new LinkedList<>();
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(ReflectionUtils.getRawType(type));
-        return deserializerChain(chain, type, classModel.getClassCustomization(), classModel);
+        ClassCustomization classCustomization = classModel.getClassCustomization();
+        CachedItem cachedItem = createCachedItem(type, classCustomization);
+        ModelDeserializer<JsonParser> deserializer = models.get(cachedItem);
+        if (deserializer != null) {
+            return deserializer;
+        }
+        //concurrent requests of the same type wait for the single deserializer being built
+        return rootBuilds.build(cachedItem, () -> deserializerChain(new LinkedList<>(), type, classCustomization, classModel));
     }
 
     private ModelDeserializer<JsonParser> deserializerChain(LinkedList<Type> chain,
@@ -144,8 +171,9 @@ public class DeserializationModelCreator {
                                                                     ClassModel classModel) {
         Class<?> rawType = classModel.getType();
         CachedItem cachedItem = createCachedItem(type, propertyCustomization);
-        if (models.containsKey(cachedItem)) {
-            return models.get(cachedItem);
+        ModelDeserializer<JsonParser> cached = models.get(cachedItem);
+        if (cached != null) {
+            return cached;
         } else if (userTypeMapping.containsKey(rawType)) {
             Class<?> userTypeRaw = userTypeMapping.get(rawType);
             ModelDeserializer<JsonParser> deserializer = deserializerChain(userTypeRaw);
@@ -212,9 +240,12 @@ public class DeserializationModelCreator {
         JsonbCreator creator = classCustomization.getCreator();
         boolean hasCreator = creator != null;
         List<String> params = hasCreator ? creatorParamsList(creator) : Collections.emptyList();
-        Function<String, String> renamer = propertyRenamer();
+        boolean caseInsensitive = isCaseInsensitive();
+        Function<String, String> renamer = caseInsensitive ? PropertyNameMatcher::fold : Function.identity();
         Map<String, ModelDeserializer<JsonParser>> processors = new LinkedHashMap<>();
-        Map<String, ModelDeserializer<Object>> defaultCreatorValues = new HashMap<>();
+        Map<String, Integer> creatorParamIndexes = new HashMap<>();
+        List<ModelDeserializer<Object>> defaultCreatorValues = new ArrayList<>();
+        List<String> creatorParameterNames = new ArrayList<>();
         for (PropertyModel propertyModel : classModel.getSortedProperties()) {
             if (!propertyModel.isWritable() || params.contains(propertyModel.getReadName())) {
                 continue;
@@ -230,25 +261,33 @@ public class DeserializationModelCreator {
                                                                             JustReturn.instance());
             String parameterName = renamer.apply(creatorModel.getName());
             processors.put(parameterName, modelDeserializer);
+            creatorParamIndexes.put(parameterName, creatorParameterNames.size());
+            creatorParameterNames.add(parameterName);
             if (creatorModel.getCustomization().isRequired()) {
-                defaultCreatorValues.put(parameterName, new RequiredCreatorParameter(parameterName));
+                defaultCreatorValues.add(new RequiredCreatorParameter(parameterName));
             } else {
                 Class<?> rawParamType = ReflectionUtils.getOptionalRawType(creatorModel.getType()).orElse(Object.class);
-                defaultCreatorValues.put(parameterName, DEFAULT_CREATOR_VALUES.getOrDefault(rawParamType, NULL_PROVIDER));
+                defaultCreatorValues.add(DEFAULT_CREATOR_VALUES.getOrDefault(rawParamType, NULL_PROVIDER));
             }
         }
         ModelDeserializer<JsonParser> instanceCreator;
         TypeInheritanceConfiguration typeInheritanceConfiguration = classCustomization.getPolymorphismConfig();
         Set<String> ignoredProperties = collectIgnoredProperties(typeInheritanceConfiguration);
         boolean failOnUnknownProperties = jsonbContext.getConfigProperties().getConfigFailOnUnknownProperties();
+        PropertyNameMatcher propertyMatcher = new PropertyNameMatcher(processors.keySet(), caseInsensitive);
+        List<ModelDeserializer<JsonParser>> propertyDeserializers = new ArrayList<>(processors.values());
         if (hasCreator) {
-            instanceCreator = new JsonbCreatorDeserializer(processors, defaultCreatorValues, creator, rawType, renamer,
+            int[] paramIndexes = processors.keySet().stream()
+                    .mapToInt(name -> creatorParamIndexes.getOrDefault(name, -1))
+                    .toArray();
+            instanceCreator = new JsonbCreatorDeserializer(propertyMatcher, propertyDeserializers, paramIndexes,
+                                                           defaultCreatorValues, creatorParameterNames, creator, rawType,
                                                            failOnUnknownProperties, ignoredProperties);
         } else {
-            ModelDeserializer<JsonParser> typeWrapper = new ObjectDeserializer(processors, renamer, rawType,
+            ModelDeserializer<JsonParser> typeWrapper = new ObjectDeserializer(propertyMatcher, propertyDeserializers, rawType,
                                                                                failOnUnknownProperties, ignoredProperties);
             instanceCreator = new DefaultObjectInstanceCreator(typeWrapper, rawType,
-                                                               classModel.getDefaultConstructor());
+                                                               classModel.getDefaultInstanceSupplier());
         }
         PositionChecker positionChecker = new PositionChecker(instanceCreator, rawType, Event.START_OBJECT);
         if (typeInheritanceConfiguration != null && !typeInheritanceConfiguration.isInherited()) {
@@ -256,6 +295,14 @@ public class DeserializationModelCreator {
             positionChecker = new PositionChecker(instanceCreator, rawType, Event.START_OBJECT);
         }
         ModelDeserializer<JsonParser> nullChecker = new NullCheckDeserializer(positionChecker, JustReturn.instance());
+        InstanceSupplier instanceSupplier = rawType.isInterface() ? null : classModel.getDefaultInstanceSupplier();
+        if (jsonbContext.getConfigProperties().isCodegen()
+                && instanceCreator instanceof DefaultObjectInstanceCreator
+                && instanceSupplier != null) {
+            PropertyReader reader = new PropertyReader(propertyMatcher, rawType, failOnUnknownProperties, ignoredProperties,
+                                                       instanceSupplier);
+            nullChecker = ObjectDeserializerGenerator.generate(reader, propertyDeserializers, nullChecker);
+        }
         models.put(cachedItem, nullChecker);
         return nullChecker;
     }
@@ -336,6 +383,15 @@ public class DeserializationModelCreator {
                                                                     arrayType,
                                                                     classModel.getClassCustomization(),
                                                                     JustReturn.instance());
+        if (isUncustomizedPrimitive(arrayType, classModel.getClassCustomization())) {
+            ModelDeserializer<JsonParser> primitiveArrayDeserializer = PrimitiveArrayDeserializer.create(rawType, typeProcessor);
+            if (primitiveArrayDeserializer != null) {
+                PositionChecker positionChecker = new PositionChecker(primitiveArrayDeserializer, rawType, Event.START_ARRAY);
+                NullCheckDeserializer nullChecker = new NullCheckDeserializer(positionChecker, JustReturn.instance());
+                models.put(cachedItem, nullChecker);
+                return nullChecker;
+            }
+        }
         return createArrayCommonDeserializer(cachedItem, rawType, arrayType, typeProcessor);
     }
 
@@ -390,15 +446,11 @@ public class DeserializationModelCreator {
         return ignoredProperties;
     }
 
-    private Function<String, String> propertyRenamer() {
-        boolean isCaseInsensitive = jsonbContext.getConfig()
+    private boolean isCaseInsensitive() {
+        return jsonbContext.getConfig()
                 .getProperty(PROPERTY_NAMING_STRATEGY)
                 .filter(prop -> prop.equals(PropertyNamingStrategy.CASE_INSENSITIVE))
                 .isPresent();
-
-        return isCaseInsensitive
-                ? String::toLowerCase
-                : value -> value;
     }
 
     private Optional<AdapterBinding> adapterBinding(Type type, ComponentBoundCustomization classCustomization) {
@@ -418,11 +470,28 @@ public class DeserializationModelCreator {
                                                               boolean hasCreator) {
         ModelDeserializer<Object> memberDeserializer;
         Type type = propertyModel.getPropertyDeserializationType();
-        memberDeserializer = new ValueSetterDeserializer(propertyModel.getSetValueHandle());
+        memberDeserializer = new ValueSetterDeserializer(propertyModel.getValueSetter());
         if (hasCreator) {
             memberDeserializer = new DeferredDeserializer(memberDeserializer);
         }
-        return typeProcessor(chain, type, propertyModel.getCustomization(), memberDeserializer);
+        ModelDeserializer<JsonParser> typeProcessor = typeProcessor(chain, type, propertyModel.getCustomization(), memberDeserializer);
+        if (!hasCreator && isUncustomizedPrimitive(type, propertyModel.getCustomization())) {
+            ModelDeserializer<JsonParser> primitiveDeserializer =
+                    PrimitiveValueSetterDeserializer.create(propertyModel.getSetValueHandle(), typeProcessor);
+            if (primitiveDeserializer != null) {
+                return primitiveDeserializer;
+            }
+        }
+        return typeProcessor;
+    }
+
+    //primitive values without any deserializer, adapter or number format can be read without boxing
+    private boolean isUncustomizedPrimitive(Type type, Customization customization) {
+        return type instanceof Class
+                && ((Class<?>) type).isPrimitive()
+                && customization.getDeserializeNumberFormatter() == null
+                && userDeserializer(type, (ComponentBoundCustomization) customization).isEmpty()
+                && adapterBinding(type, (ComponentBoundCustomization) customization).isEmpty();
     }
 
     private ModelDeserializer<JsonParser> typeProcessor(LinkedList<Type> chain,
@@ -468,8 +537,13 @@ public class DeserializationModelCreator {
 
             AdapterDeserializer adapterDeserializer = new AdapterDeserializer(adapter, memberDeserializer);
             return (parser, context) -> {
-                DeserializationContextImpl newContext = new DeserializationContextImpl(context);
-                Object fromJson = targetAdapterModel.deserialize(parser, newContext);
+                DeserializationContextImpl newContext = context.nestedContext();
+                Object fromJson;
+                try {
+                    fromJson = targetAdapterModel.deserialize(parser, newContext);
+                } finally {
+                    newContext.release();
+                }
                 return adapterDeserializer.deserialize(fromJson, context);
             };
         }
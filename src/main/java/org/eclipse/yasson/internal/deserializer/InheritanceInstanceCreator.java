@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,26 +12,28 @@
 
 package org.eclipse.yasson.internal.deserializer;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-import jakarta.json.JsonObject;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
-import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
 import org.eclipse.yasson.internal.model.customization.TypeInheritanceConfiguration;
 
 import static jakarta.json.stream.JsonParser.Event;
 
 /**
  * Instance creator following the inheritance structure defined by {@link jakarta.json.bind.annotation.JsonbTypeInfo}.
+ * <br>
+ * Polymorphic object is processed in streaming fashion. If the type information property is the first one, the rest of
+ * the object is deserialized directly from the parser by the deserializer of the resolved type. Otherwise, only
+ * the properties preceding the type information property are buffered and replayed before the rest of the object.
  */
 class InheritanceInstanceCreator implements ModelDeserializer<JsonParser> {
 
     private final Class<?> processedType;
-    private final Map<String, Class<?>> resolvedClasses = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> aliasClasses;
     private final DeserializationModelCreator deserializationModelCreator;
     private final TypeInheritanceConfiguration typeInheritanceConfiguration;
     private final ModelDeserializer<JsonParser> defaultProcessor;
@@ -44,27 +46,42 @@ class InheritanceInstanceCreator implements ModelDeserializer<JsonParser> {
         this.deserializationModelCreator = deserializationModelCreator;
         this.typeInheritanceConfiguration = typeInheritanceConfiguration;
         this.defaultProcessor = defaultProcessor;
+        Map<String, Class<?>> aliasClasses = new HashMap<>();
+        typeInheritanceConfiguration.getAliases().forEach((clazz, alias) -> aliasClasses.putIfAbsent(alias, clazz));
+        this.aliasClasses = Map.copyOf(aliasClasses);
     }
 
     @Override
     public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
-        String alias;
-        JsonParser jsonParser;
         String polymorphismKeyName = typeInheritanceConfiguration.getFieldName();
-        JsonObject object = parser.getObject();
-        alias = object.getString(polymorphismKeyName, null);
-        JsonObject newJsonObject = context.getJsonbContext().getJsonProvider().createObjectBuilder(object)
-                .remove(polymorphismKeyName)
-                .build();
-        jsonParser = new JsonStructureToParserAdapter(newJsonObject);
-        //To get to the first event
-        Event event = jsonParser.next();
-        context.setLastValueEvent(event);
-        Class<?> polymorphicTypeClass;
+        String alias = null;
+        TokenBuffer buffer = null;
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            if (event == Event.END_OBJECT) {
+                //no type information present, whole object has been buffered
+                buffer = buffer == null ? new TokenBuffer() : buffer;
+                buffer.add(event, null);
+                break;
+            }
+            String key = parser.getString();
+            Event valueEvent = parser.next();
+            if (polymorphismKeyName.equals(key)) {
+                alias = readAlias(parser, valueEvent);
+                break;
+            }
+            buffer = buffer == null ? new TokenBuffer() : buffer;
+            buffer.add(event, key);
+            buffer.copyValue(parser, valueEvent);
+        }
+        JsonParser jsonParser = buffer == null
+                ? parser
+                : buffer.replay(parser, Event.START_OBJECT, context.getJsonbContext().getJsonProvider());
+        context.setLastValueEvent(Event.START_OBJECT);
         if (alias == null) {
             return defaultProcessor.deserialize(jsonParser, context);
         }
-        polymorphicTypeClass = getPolymorphicTypeClass(alias);
+        Class<?> polymorphicTypeClass = getPolymorphicTypeClass(alias);
         if (polymorphicTypeClass.equals(processedType)) {
             return defaultProcessor.deserialize(jsonParser, context);
         }
@@ -72,23 +89,34 @@ class InheritanceInstanceCreator implements ModelDeserializer<JsonParser> {
         return deserializer.deserialize(jsonParser, context);
     }
 
+    private static String readAlias(JsonParser parser, Event valueEvent) {
+        switch (valueEvent) {
+        case VALUE_STRING:
+            return parser.getString();
+        case START_OBJECT:
+            parser.skipObject();
+            return null;
+        case START_ARRAY:
+            parser.skipArray();
+            return null;
+        default:
+            //type information which is not a string is ignored
+            return null;
+        }
+    }
+
     @Override
     public String toString() {
         return "Property " + typeInheritanceConfiguration.getFieldName() + " polymorphic information handler";
     }
 
     private Class<?> getPolymorphicTypeClass(String alias) {
-        if (resolvedClasses.containsKey(alias)) {
-            return resolvedClasses.get(alias);
-        }
-        for (Map.Entry<Class<?>, String> entry : typeInheritanceConfiguration.getAliases().entrySet()) {
-            if (entry.getValue().equals(alias)) {
-                resolvedClasses.put(alias, entry.getKey());
-                return entry.getKey();
-            }
+        Class<?> polymorphicTypeClass = aliasClasses.get(alias);
+        if (polymorphicTypeClass == null) {
+            throw new JsonbException("Unknown alias \"" + alias + "\" of the type " + processedType.getName() + ". Known aliases: "
+                                             + typeInheritanceConfiguration.getAliases().values());
         }
-        throw new JsonbException("Unknown alias \"" + alias + "\" of the type " + processedType.getName() + ". Known aliases: "
-                                         + typeInheritanceConfiguration.getAliases().values());
+        return polymorphicTypeClass;
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,19 +12,13 @@
 
 package org.eclipse.yasson.internal.deserializer;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
-import org.eclipse.yasson.internal.model.CreatorModel;
 import org.eclipse.yasson.internal.model.JsonbCreator;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
@@ -37,42 +31,66 @@ import static org.eclipse.yasson.internal.deserializer.ObjectDeserializer.VALUE_
  */
 class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
 
-    private final Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains;
-    private final Map<String, ModelDeserializer<Object>> defaultCreatorValues;
+    private final PropertyNameMatcher propertyMatcher;
+    private final ModelDeserializer<JsonParser>[] propertyDeserializerChains;
+    private final int[] creatorParamIndexes;
+    private final ModelDeserializer<Object>[] defaultCreatorValues;
     private final List<String> creatorParams;
     private final Set<String> ignoredProperties;
     private final JsonbCreator creator;
     private final Class<?> clazz;
-    private final Function<String, String> renamer;
     private final boolean failOnUnknownProperties;
 
-    JsonbCreatorDeserializer(Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains,
-                             Map<String, ModelDeserializer<Object>> defaultCreatorValues,
+    /**
+     * Create new instance.
+     *
+     * @param propertyMatcher            matcher of the property slots
+     * @param propertyDeserializerChains property deserializers in the slot order
+     * @param creatorParamIndexes        creator parameter index of each property slot, -1 if slot is not a parameter
+     * @param defaultCreatorValues       providers of the missing parameter values in the parameter order
+     * @param creatorParams              creator parameter names in the parameter order
+     * @param creator                    creator to call
+     * @param clazz                      created class
+     * @param failOnUnknownProperties    whether to fail on unknown properties
+     * @param ignoredProperties          properties which are not reported as unknown
+     */
+    @SuppressWarnings("unchecked")
+    JsonbCreatorDeserializer(PropertyNameMatcher propertyMatcher,
+                             List<ModelDeserializer<JsonParser>> propertyDeserializerChains,
+                             int[] creatorParamIndexes,
+                             List<ModelDeserializer<Object>> defaultCreatorValues,
+                             List<String> creatorParams,
                              JsonbCreator creator,
                              Class<?> clazz,
-                             Function<String, String> renamer,
                              boolean failOnUnknownProperties,
                              Set<String> ignoredProperties) {
-        this.propertyDeserializerChains = propertyDeserializerChains;
-        this.defaultCreatorValues = defaultCreatorValues;
-        this.creatorParams = Arrays.stream(creator.getParams()).map(CreatorModel::getName).collect(Collectors.toList());
+        this.propertyMatcher = propertyMatcher;
+        //generic arrays cannot be created, the lists contain only deserializers of the declared type
+        this.propertyDeserializerChains = (ModelDeserializer<JsonParser>[]) propertyDeserializerChains
+                .toArray(new ModelDeserializer<?>[0]);
+        this.creatorParamIndexes = creatorParamIndexes.clone();
+        this.defaultCreatorValues = (ModelDeserializer<Object>[]) defaultCreatorValues.toArray(new ModelDeserializer<?>[0]);
+        this.creatorParams = List.copyOf(creatorParams);
         this.ignoredProperties = Set.copyOf(ignoredProperties);
         this.creator = creator;
         this.clazz = clazz;
-        this.renamer = renamer;
         this.failOnUnknownProperties = failOnUnknownProperties;
     }
 
     @Override
     public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
         String key = null;
-        Map<String, Object> paramValues = new HashMap<>();
+        int slot = PropertyNameMatcher.NOT_FOUND;
+        int expectedSlot = 0;
+        Object[] params = new Object[defaultCreatorValues.length];
+        long[] presentParams = new long[(params.length + 63) >>> 6];
         while (parser.hasNext()) {
             final JsonParser.Event next = parser.next();
             context.setLastValueEvent(next);
             switch (next) {
             case KEY_NAME:
-                key = renamer.apply(parser.getString());
+                key = parser.getString();
+                slot = propertyMatcher.match(key, expectedSlot);
                 break;
             case VALUE_NULL:
             case START_OBJECT:
@@ -81,11 +99,14 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
             case VALUE_NUMBER:
             case VALUE_FALSE:
             case VALUE_TRUE:
-                if (propertyDeserializerChains.containsKey(key)) {
+                if (slot != PropertyNameMatcher.NOT_FOUND) {
+                    expectedSlot = slot + 1;
                     try {
-                        Object o = propertyDeserializerChains.get(key).deserialize(parser, context);
-                        if (creatorParams.contains(key)) {
-                            paramValues.put(key, o);
+                        Object o = propertyDeserializerChains[slot].deserialize(parser, context);
+                        int paramIndex = creatorParamIndexes[slot];
+                        if (paramIndex >= 0) {
+                            params[paramIndex] = o;
+                            presentParams[paramIndex >>> 6] |= 1L << paramIndex;
                         }
                     } catch (JsonbException e) {
                         throw new JsonbException("Unable to deserialize property '" + key + "' because of: " + e.getMessage(), e);
@@ -98,13 +119,9 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
                 }
                 break;
             case END_OBJECT:
-                Object[] params = new Object[creatorParams.size()];
-                for (int i = 0; i < creatorParams.size(); i++) {
-                    String param = creatorParams.get(i);
-                    if (paramValues.containsKey(param)) {
-                        params[i] = paramValues.get(param);
-                    } else {
-                        params[i] = defaultCreatorValues.get(param).deserialize(null, context);
+                for (int i = 0; i < params.length; i++) {
+                    if ((presentParams[i >>> 6] & (1L << i)) == 0) {
+                        params[i] = defaultCreatorValues[i].deserialize(null, context);
                     }
                 }
                 context.setInstance(creator.call(params, clazz));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,10 +13,9 @@
 package org.eclipse.yasson.internal.deserializer;
 
 import java.util.EnumMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
@@ -38,19 +37,22 @@ class ObjectDeserializer implements ModelDeserializer<JsonParser> {
         VALUE_SKIPPERS.put(JsonParser.Event.START_ARRAY, JsonParser::skipArray);
     }
 
-    private final Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains;
-    private final Function<String, String> renamer;
+    private final PropertyNameMatcher propertyMatcher;
+    private final ModelDeserializer<JsonParser>[] propertyDeserializerChains;
     private final Class<?> rawClass;
     private final boolean failOnUnknownProperty;
     private final Set<String> ignoredProperties;
 
-    ObjectDeserializer(Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains,
-                       Function<String, String> renamer,
+    @SuppressWarnings("unchecked")
+    ObjectDeserializer(PropertyNameMatcher propertyMatcher,
+                       List<ModelDeserializer<JsonParser>> propertyDeserializerChains,
                        Class<?> rawClass,
                        boolean failOnUnknownProperty,
                        Set<String> ignoredProperties) {
-        this.propertyDeserializerChains = Map.copyOf(propertyDeserializerChains);
-        this.renamer = renamer;
+        this.propertyMatcher = propertyMatcher;
+        //generic array cannot be created, the list contains only ModelDeserializer<JsonParser> instances
+        this.propertyDeserializerChains = (ModelDeserializer<JsonParser>[]) propertyDeserializerChains
+                .toArray(new ModelDeserializer<?>[0]);
         this.rawClass = rawClass;
         this.failOnUnknownProperty = failOnUnknownProperty;
         this.ignoredProperties = Set.copyOf(ignoredProperties);
@@ -59,12 +61,15 @@ class ObjectDeserializer implements ModelDeserializer<JsonParser> {
     @Override
     public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
         String key = null;
+        int slot = PropertyNameMatcher.NOT_FOUND;
+        int expectedSlot = 0;
         while (parser.hasNext()) {
             final JsonParser.Event next = parser.next();
             context.setLastValueEvent(next);
             switch (next) {
             case KEY_NAME:
-                key = renamer.apply(parser.getString());
+                key = parser.getString();
+                slot = propertyMatcher.match(key, expectedSlot);
                 break;
             case VALUE_NULL:
             case START_OBJECT:
@@ -73,9 +78,10 @@ class ObjectDeserializer implements ModelDeserializer<JsonParser> {
             case VALUE_NUMBER:
             case VALUE_FALSE:
             case VALUE_TRUE:
-                if (propertyDeserializerChains.containsKey(key)) {
+                if (slot != PropertyNameMatcher.NOT_FOUND) {
+                    expectedSlot = slot + 1;
                     try {
-                        propertyDeserializerChains.get(key).deserialize(parser, context);
+                        propertyDeserializerChains[slot].deserialize(parser, context);
                     } catch (JsonbException e) {
                         throw new JsonbException("Unable to deserialize property '" + key + "' because of: " + e.getMessage(), e);
                     }
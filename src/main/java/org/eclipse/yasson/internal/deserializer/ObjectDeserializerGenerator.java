@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.List;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Generator of the object deserializers specialized for a single type.
+ * <br>
+ * Generated deserializers are hidden classes with class data, which are available since Java 16.
+ * This version is used on the older Java versions, where the generic deserializer chain is used instead.
+ */
+final class ObjectDeserializerGenerator {
+
+    private ObjectDeserializerGenerator() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Generate deserializer of the object with the given properties.
+     *
+     * @param reader                reader of the object properties
+     * @param propertyDeserializers deserializers of the properties in the matcher slot order
+     * @param chain                 generic deserializer chain of the type
+     * @return generated deserializer or the chain if the deserializer cannot be generated
+     */
+    static ModelDeserializer<JsonParser> generate(PropertyReader reader,
+                                                  List<ModelDeserializer<JsonParser>> propertyDeserializers,
+                                                  ModelDeserializer<JsonParser> chain) {
+        return chain;
+    }
+
+}
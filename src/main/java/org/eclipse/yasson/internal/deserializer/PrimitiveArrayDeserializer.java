@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.FloatingPointFormat;
+
+/**
+ * Deserializer of the primitive arrays without any component customization.
+ * <br>
+ * JSON numbers (or booleans) are read from the parser as primitives directly into the growable primitive buffer,
+ * which is trimmed to the array of the exact size at the end of the JSON array. Any other element value,
+ * such as string, is processed by the component deserializer.
+ */
+abstract class PrimitiveArrayDeserializer implements ModelDeserializer<JsonParser> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Map<Class<?>, Function<ModelDeserializer<JsonParser>, PrimitiveArrayDeserializer>> DESERIALIZERS =
+            Map.of(boolean[].class, BooleanArrayDeserializer::new,
+                   double[].class, DoubleArrayDeserializer::new,
+                   float[].class, FloatArrayDeserializer::new,
+                   int[].class, IntegerArrayDeserializer::new,
+                   long[].class, LongArrayDeserializer::new);
+
+    private final ModelDeserializer<JsonParser> componentDeserializer;
+
+    private PrimitiveArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+        this.componentDeserializer = componentDeserializer;
+    }
+
+    /**
+     * Create new primitive array deserializer.
+     *
+     * @param arrayType             type of the array
+     * @param componentDeserializer deserializer of the component values which are not read as primitives
+     * @return primitive array deserializer or null if array type is not supported
+     */
+    static ModelDeserializer<JsonParser> create(Class<?> arrayType, ModelDeserializer<JsonParser> componentDeserializer) {
+        Function<ModelDeserializer<JsonParser>, PrimitiveArrayDeserializer> creator = DESERIALIZERS.get(arrayType);
+        return creator == null ? null : creator.apply(componentDeserializer);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
+        Buffer buffer = createBuffer();
+        while (parser.hasNext()) {
+            final JsonParser.Event next = parser.next();
+            context.setLastValueEvent(next);
+            switch (next) {
+            case VALUE_NUMBER:
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (buffer.isPrimitiveValue(next)) {
+                    buffer.add(parser, next);
+                } else {
+                    addComponentValue(buffer, parser, context);
+                }
+                break;
+            case START_OBJECT:
+            case START_ARRAY:
+            case VALUE_STRING:
+            case VALUE_NULL:
+                addComponentValue(buffer, parser, context);
+                break;
+            case END_ARRAY:
+                return buffer.toArray();
+            default:
+                throw new JsonbException("Unexpected state: " + next);
+            }
+        }
+        return buffer.toArray();
+    }
+
+    private void addComponentValue(Buffer buffer, JsonParser parser, DeserializationContextImpl context) {
+        DeserializationContextImpl newContext = context.nestedContext();
+        try {
+            buffer.addValue(componentDeserializer.deserialize(parser, newContext));
+        } finally {
+            newContext.release();
+        }
+    }
+
+    abstract Buffer createBuffer();
+
+    /**
+     * Growable buffer of the array elements. New buffer is created for every deserialized array.
+     */
+    private abstract static class Buffer {
+
+        int size;
+
+        boolean isPrimitiveValue(JsonParser.Event event) {
+            return event == JsonParser.Event.VALUE_NUMBER;
+        }
+
+        abstract void add(JsonParser parser, JsonParser.Event event);
+
+        abstract void addValue(Object value);
+
+        abstract Object toArray();
+
+        static int grow(int length) {
+            return length + (length >> 1) + 1;
+        }
+
+    }
+
+    private static final class IntegerArrayDeserializer extends PrimitiveArrayDeserializer {
+
+        private IntegerArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+            super(componentDeserializer);
+        }
+
+        @Override
+        Buffer createBuffer() {
+            return new Buffer() {
+                private int[] array = new int[INITIAL_CAPACITY];
+
+                @Override
+                void add(JsonParser parser, JsonParser.Event event) {
+                    add(parser.getInt());
+                }
+
+                @Override
+                void addValue(Object value) {
+                    add((int) value);
+                }
+
+                private void add(int value) {
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                }
+
+                @Override
+                Object toArray() {
+                    return Arrays.copyOf(array, size);
+                }
+            };
+        }
+
+    }
+
+    private static final class LongArrayDeserializer extends PrimitiveArrayDeserializer {
+
+        private LongArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+            super(componentDeserializer);
+        }
+
+        @Override
+        Buffer createBuffer() {
+            return new Buffer() {
+                private long[] array = new long[INITIAL_CAPACITY];
+
+                @Override
+                void add(JsonParser parser, JsonParser.Event event) {
+                    add(parser.getLong());
+                }
+
+                @Override
+                void addValue(Object value) {
+                    add((long) value);
+                }
+
+                private void add(long value) {
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                }
+
+                @Override
+                Object toArray() {
+                    return Arrays.copyOf(array, size);
+                }
+            };
+        }
+
+    }
+
+    private static final class DoubleArrayDeserializer extends PrimitiveArrayDeserializer {
+
+        private DoubleArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+            super(componentDeserializer);
+        }
+
+        @Override
+        Buffer createBuffer() {
+            return new Buffer() {
+                private double[] array = new double[INITIAL_CAPACITY];
+
+                @Override
+                void add(JsonParser parser, JsonParser.Event event) {
+                    add(FloatingPointFormat.parseDouble(parser.getString()));
+                }
+
+                @Override
+                void addValue(Object value) {
+                    add((double) value);
+                }
+
+                private void add(double value) {
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                }
+
+                @Override
+                Object toArray() {
+                    return Arrays.copyOf(array, size);
+                }
+            };
+        }
+
+    }
+
+    private static final class FloatArrayDeserializer extends PrimitiveArrayDeserializer {
+
+        private FloatArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+            super(componentDeserializer);
+        }
+
+        @Override
+        Buffer createBuffer() {
+            return new Buffer() {
+                private float[] array = new float[INITIAL_CAPACITY];
+
+                @Override
+                void add(JsonParser parser, JsonParser.Event event) {
+                    add(FloatingPointFormat.parseFloat(parser.getString()));
+                }
+
+                @Override
+                void addValue(Object value) {
+                    add((float) value);
+                }
+
+                private void add(float value) {
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                }
+
+                @Override
+                Object toArray() {
+                    return Arrays.copyOf(array, size);
+                }
+            };
+        }
+
+    }
+
+    private static final class BooleanArrayDeserializer extends PrimitiveArrayDeserializer {
+
+        private BooleanArrayDeserializer(ModelDeserializer<JsonParser> componentDeserializer) {
+            super(componentDeserializer);
+        }
+
+        @Override
+        Buffer createBuffer() {
+            return new Buffer() {
+                private boolean[] array = new boolean[INITIAL_CAPACITY];
+
+                @Override
+                boolean isPrimitiveValue(JsonParser.Event event) {
+                    return event == JsonParser.Event.VALUE_TRUE || event == JsonParser.Event.VALUE_FALSE;
+                }
+
+                @Override
+                void add(JsonParser parser, JsonParser.Event event) {
+                    add(event == JsonParser.Event.VALUE_TRUE);
+                }
+
+                @Override
+                void addValue(Object value) {
+                    add((boolean) value);
+                }
+
+                private void add(boolean value) {
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                }
+
+                @Override
+                Object toArray() {
+                    return Arrays.copyOf(array, size);
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.FloatingPointFormat;
+
+/**
+ * Deserializer of the primitive property without any customization.
+ * <br>
+ * JSON number (or boolean) value is read from the parser as a primitive and set to the instance
+ * by the handle accepting the primitive type, so the value is never boxed. Any other value, such as
+ * string or null, is processed by the general property deserializer.
+ */
+abstract class PrimitiveValueSetterDeserializer implements ModelDeserializer<JsonParser> {
+
+    private final ModelDeserializer<JsonParser> fallback;
+
+    PrimitiveValueSetterDeserializer(ModelDeserializer<JsonParser> fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Create new primitive property deserializer.
+     *
+     * @param handle   handle setting the property value
+     * @param fallback deserializer of the values which are not read as primitives
+     * @return primitive property deserializer or null if property type is not supported
+     */
+    static ModelDeserializer<JsonParser> create(MethodHandle handle, ModelDeserializer<JsonParser> fallback) {
+        if (handle.type().parameterCount() != 2) {
+            return null;
+        }
+        Class<?> type = handle.type().parameterType(1);
+        MethodHandle typed = handle.asType(MethodType.methodType(void.class, Object.class, type));
+        if (type == int.class) {
+            return new IntDeserializer(typed, fallback);
+        } else if (type == long.class) {
+            return new LongDeserializer(typed, fallback);
+        } else if (type == double.class) {
+            return new DoubleDeserializer(typed, fallback);
+        } else if (type == boolean.class) {
+            return new BooleanDeserializer(typed, fallback);
+        }
+        return null;
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
+        JsonParser.Event event = context.getLastValueEvent();
+        if (!isPrimitiveValue(event)) {
+            return fallback.deserialize(parser, context);
+        }
+        Object instance = context.getInstance();
+        try {
+            setValue(instance, parser, event);
+        } catch (JsonbException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + instance, e);
+        }
+        return null;
+    }
+
+    boolean isPrimitiveValue(JsonParser.Event event) {
+        return event == JsonParser.Event.VALUE_NUMBER;
+    }
+
+    abstract void setValue(Object instance, JsonParser parser, JsonParser.Event event) throws Throwable;
+
+    private static final class IntDeserializer extends PrimitiveValueSetterDeserializer {
+
+        private final MethodHandle handle;
+
+        IntDeserializer(MethodHandle handle, ModelDeserializer<JsonParser> fallback) {
+            super(fallback);
+            this.handle = handle;
+        }
+
+        @Override
+        void setValue(Object instance, JsonParser parser, JsonParser.Event event) throws Throwable {
+            handle.invokeExact(instance, parser.getInt());
+        }
+
+    }
+
+    private static final class LongDeserializer extends PrimitiveValueSetterDeserializer {
+
+        private final MethodHandle handle;
+
+        LongDeserializer(MethodHandle handle, ModelDeserializer<JsonParser> fallback) {
+            super(fallback);
+            this.handle = handle;
+        }
+
+        @Override
+        void setValue(Object instance, JsonParser parser, JsonParser.Event event) throws Throwable {
+            handle.invokeExact(instance, parser.getLong());
+        }
+
+    }
+
+    private static final class DoubleDeserializer extends PrimitiveValueSetterDeserializer {
+
+        private final MethodHandle handle;
+
+        DoubleDeserializer(MethodHandle handle, ModelDeserializer<JsonParser> fallback) {
+            super(fallback);
+            this.handle = handle;
+        }
+
+        @Override
+        void setValue(Object instance, JsonParser parser, JsonParser.Event event) throws Throwable {
+            handle.invokeExact(instance, FloatingPointFormat.parseDouble(parser.getString()));
+        }
+
+    }
+
+    private static final class BooleanDeserializer extends PrimitiveValueSetterDeserializer {
+
+        private final MethodHandle handle;
+
+        BooleanDeserializer(MethodHandle handle, ModelDeserializer<JsonParser> fallback) {
+            super(fallback);
+            this.handle = handle;
+        }
+
+        @Override
+        boolean isPrimitiveValue(JsonParser.Event event) {
+            return event == JsonParser.Event.VALUE_TRUE || event == JsonParser.Event.VALUE_FALSE;
+        }
+
+        @Override
+        void setValue(Object instance, JsonParser parser, JsonParser.Event event) throws Throwable {
+            handle.invokeExact(instance, event == JsonParser.Event.VALUE_TRUE);
+        }
+
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Precomputed matcher of the JSON property names to the property slots of the deserialized type.
+ * <br>
+ * Property names are bucketed by their length, so only names of the same length as the incoming key
+ * are compared. Before the bucket lookup, the property expected to follow the previously matched one
+ * (in the declared order) is checked, since that is the most common order in which the properties arrive.
+ * <br>
+ * Case insensitive matcher holds the property names folded to lower case. ASCII keys are compared against them
+ * char by char without creating folded copy of the key. Only keys containing non-ASCII characters are folded
+ * with {@link String#toLowerCase(Locale)} before the lookup.
+ */
+final class PropertyNameMatcher {
+
+    /**
+     * Slot value returned when no property matches the key.
+     */
+    static final int NOT_FOUND = -1;
+
+    private final String[] names;
+    private final String[][] namesByLength;
+    private final int[][] slotsByLength;
+    private final boolean caseInsensitive;
+
+    /**
+     * Create new case sensitive instance.
+     *
+     * @param names property names in the slot order
+     */
+    PropertyNameMatcher(Collection<String> names) {
+        this(names, false);
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @param names           property names in the slot order
+     * @param caseInsensitive whether property names should be matched case insensitively
+     */
+    PropertyNameMatcher(Collection<String> names, boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        this.names = names.stream().map(name -> caseInsensitive ? fold(name) : name).toArray(String[]::new);
+        int maxLength = -1;
+        for (String name : this.names) {
+            maxLength = Math.max(maxLength, name.length());
+        }
+        int[] bucketSizes = new int[maxLength + 1];
+        for (String name : this.names) {
+            bucketSizes[name.length()]++;
+        }
+        this.namesByLength = new String[maxLength + 1][];
+        this.slotsByLength = new int[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            if (bucketSizes[length] > 0) {
+                namesByLength[length] = new String[bucketSizes[length]];
+                slotsByLength[length] = new int[bucketSizes[length]];
+            }
+        }
+        int[] filled = new int[maxLength + 1];
+        for (int slot = 0; slot < this.names.length; slot++) {
+            int length = this.names[slot].length();
+            namesByLength[length][filled[length]] = this.names[slot];
+            slotsByLength[length][filled[length]++] = slot;
+        }
+    }
+
+    /**
+     * Fold property name the same way as case insensitive matcher does.
+     *
+     * @param name property name
+     * @return folded property name
+     */
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Number of the property slots.
+     *
+     * @return number of slots
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Property name bound to the slot. Case insensitive matcher returns folded name.
+     *
+     * @param slot property slot
+     * @return property name
+     */
+    String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Find the slot of the property with the given name.
+     *
+     * @param key      property name
+     * @param expected slot which is expected to match, usually the one following the previously matched slot
+     * @return matched slot or {@link #NOT_FOUND}
+     */
+    int match(String key, int expected) {
+        if (key == null) {
+            return NOT_FOUND;
+        }
+        if (!caseInsensitive) {
+            return matchExact(key, expected);
+        }
+        if (!isAscii(key)) {
+            return matchExact(fold(key), expected);
+        }
+        if (expected < names.length && equalsFolded(names[expected], key)) {
+            return expected;
+        }
+        String[] bucket = bucket(key);
+        if (bucket != null) {
+            for (int i = 0; i < bucket.length; i++) {
+                if (equalsFolded(bucket[i], key)) {
+                    return slotsByLength[key.length()][i];
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int matchExact(String key, int expected) {
+        if (expected < names.length && names[expected].equals(key)) {
+            return expected;
+        }
+        String[] bucket = bucket(key);
+        if (bucket != null) {
+            for (int i = 0; i < bucket.length; i++) {
+                if (bucket[i].equals(key)) {
+                    return slotsByLength[key.length()][i];
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private String[] bucket(String key) {
+        int length = key.length();
+        return length < namesByLength.length ? namesByLength[length] : null;
+    }
+
+    private static boolean isAscii(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare folded property name with the ASCII key.
+     *
+     * @param folded folded property name
+     * @param key    ASCII only key
+     * @return whether key matches folded name
+     */
+    private static boolean equalsFolded(String folded, String key) {
+        int length = key.length();
+        if (folded.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = key.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (folded.charAt(i) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyNameMatcher{"
+                + "names=" + Arrays.toString(names)
+                + ", caseInsensitive=" + caseInsensitive
+                + '}';
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.Set;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.model.InstanceSupplier;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Reader of the object properties used by the generated object deserializers.
+ * <br>
+ * Reader processes the parser events the same way as the {@link ObjectDeserializer}, but instead of calling
+ * the property deserializer itself, it returns the slot of the property, whose value is to be deserialized.
+ * Generated deserializer calls the property deserializer of the slot from its own call site.
+ */
+final class PropertyReader {
+
+    private final PropertyNameMatcher propertyMatcher;
+    private final Class<?> rawClass;
+    private final boolean failOnUnknownProperty;
+    private final Set<String> ignoredProperties;
+    private final InstanceSupplier instanceSupplier;
+
+    /**
+     * Create new instance.
+     *
+     * @param propertyMatcher       matcher of the property names
+     * @param rawClass              deserialized type
+     * @param failOnUnknownProperty whether to fail on unknown property
+     * @param ignoredProperties     properties which are not considered unknown
+     * @param instanceSupplier      default instance supplier of the type
+     */
+    PropertyReader(PropertyNameMatcher propertyMatcher,
+                   Class<?> rawClass,
+                   boolean failOnUnknownProperty,
+                   Set<String> ignoredProperties,
+                   InstanceSupplier instanceSupplier) {
+        this.propertyMatcher = propertyMatcher;
+        this.rawClass = rawClass;
+        this.failOnUnknownProperty = failOnUnknownProperty;
+        this.ignoredProperties = Set.copyOf(ignoredProperties);
+        this.instanceSupplier = instanceSupplier;
+    }
+
+    /**
+     * Start reading of the object. New instance of the type is set to the context.
+     *
+     * @param parser  parser positioned after the object start
+     * @param context deserialization context
+     * @return cursor over the object properties or null if the parser is not at the object start
+     */
+    Cursor start(JsonParser parser, DeserializationContextImpl context) {
+        if (context.getLastValueEvent() != JsonParser.Event.START_OBJECT) {
+            return null;
+        }
+        context.setInstance(ReflectionUtils.createInstance(instanceSupplier));
+        return new Cursor();
+    }
+
+    /**
+     * Position within the single deserialized object.
+     */
+    final class Cursor {
+
+        private String key;
+        private int expectedSlot;
+
+        private Cursor() {
+        }
+
+        /**
+         * Move to the next property value, which should be deserialized.
+         *
+         * @param parser  parser of the object
+         * @param context deserialization context
+         * @return slot of the property or {@link PropertyNameMatcher#NOT_FOUND} at the end of the object
+         */
+        int next(JsonParser parser, DeserializationContextImpl context) {
+            int slot = PropertyNameMatcher.NOT_FOUND;
+            while (parser.hasNext()) {
+                final JsonParser.Event next = parser.next();
+                context.setLastValueEvent(next);
+                if (next == JsonParser.Event.KEY_NAME) {
+                    key = parser.getString();
+                    slot = propertyMatcher.match(key, expectedSlot);
+                } else if (next == JsonParser.Event.END_OBJECT) {
+                    return PropertyNameMatcher.NOT_FOUND;
+                } else if (next == JsonParser.Event.END_ARRAY) {
+                    //ignored the same way as by the object deserializer
+                    continue;
+                } else if (slot != PropertyNameMatcher.NOT_FOUND) {
+                    expectedSlot = slot + 1;
+                    return slot;
+                } else if (failOnUnknownProperty && !ignoredProperties.contains(key)) {
+                    throw new JsonbException(Messages.getMessage(MessageKeys.UNKNOWN_JSON_PROPERTY, key, rawClass));
+                } else if (next == JsonParser.Event.START_OBJECT) {
+                    parser.skipObject();
+                } else if (next == JsonParser.Event.START_ARRAY) {
+                    parser.skipArray();
+                }
+            }
+            throw new JsonbException("Incorrect parser position after processing of the type: " + rawClass + ". "
+                                             + "Start event: " + JsonParser.Event.START_OBJECT + " "
+                                             + "After processing event: " + context.getLastValueEvent());
+        }
+
+        /**
+         * Create exception of the property, which failed to deserialize.
+         *
+         * @param e deserialization failure
+         * @return exception to throw
+         */
+        JsonbException propertyError(JsonbException e) {
+            return new JsonbException("Unable to deserialize property '" + key + "' because of: " + e.getMessage(), e);
+        }
+
+    }
+
+}
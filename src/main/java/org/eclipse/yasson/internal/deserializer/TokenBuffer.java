@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+
+import static jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Compact buffer of the parser events.
+ * <br>
+ * Every event is stored together with its string value (key name, string or number text), no JSON structure
+ * is built. Buffered events are later replayed by the {@link JsonParser} returned from {@link #replay(JsonParser, Event, JsonProvider)},
+ * which continues with the live parser once all the buffered events have been read.
+ */
+final class TokenBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Event[] events = new Event[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Add single event with its value to the buffer.
+     *
+     * @param event event to add
+     * @param value key name, string or number text of the event, otherwise null
+     */
+    void add(Event event, String value) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        events[size] = event;
+        values[size++] = value;
+    }
+
+    /**
+     * Copy the complete value the parser is currently positioned at to the buffer.
+     * If the value is an object or an array, all the events up to the closing one are copied.
+     *
+     * @param parser parser positioned at the value
+     * @param event  current event of the parser
+     */
+    void copyValue(JsonParser parser, Event event) {
+        int depth = 0;
+        Event current = event;
+        while (true) {
+            switch (current) {
+            case START_OBJECT:
+            case START_ARRAY:
+                depth++;
+                add(current, null);
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                depth--;
+                add(current, null);
+                break;
+            case KEY_NAME:
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                add(current, parser.getString());
+                break;
+            default:
+                add(current, null);
+            }
+            if (depth == 0) {
+                return;
+            }
+            current = parser.next();
+        }
+    }
+
+    /**
+     * Create parser replaying the buffered events, followed by the events of the live parser.
+     *
+     * @param live         parser to continue with after the buffered events
+     * @param currentEvent event the live parser was positioned at before the buffered events
+     * @param provider     provider used to create JSON values from the events
+     * @return replaying parser
+     */
+    JsonParser replay(JsonParser live, Event currentEvent, JsonProvider provider) {
+        return new ReplayingParser(this, live, currentEvent, provider);
+    }
+
+    private static final class ReplayingParser implements JsonParser {
+
+        private final TokenBuffer buffer;
+        private final JsonParser live;
+        private final JsonProvider provider;
+        private int position;
+        private Event current;
+        private boolean replaying;
+
+        private ReplayingParser(TokenBuffer buffer, JsonParser live, Event current, JsonProvider provider) {
+            this.buffer = buffer;
+            this.live = live;
+            this.current = current;
+            this.provider = provider;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < buffer.size || live.hasNext();
+        }
+
+        @Override
+        public Event next() {
+            if (position < buffer.size) {
+                replaying = true;
+                current = buffer.events[position++];
+            } else {
+                replaying = false;
+                current = live.next();
+            }
+            return current;
+        }
+
+        @Override
+        public Event currentEvent() {
+            return current;
+        }
+
+        @Override
+        public String getString() {
+            if (!replaying) {
+                return live.getString();
+            }
+            String value = buffer.values[position - 1];
+            if (value == null) {
+                throw new IllegalStateException("Current event is not a key name, string or number: " + current);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            return replaying ? getBigDecimal().scale() == 0 : live.isIntegralNumber();
+        }
+
+        @Override
+        public int getInt() {
+            return replaying ? getBigDecimal().intValue() : live.getInt();
+        }
+
+        @Override
+        public long getLong() {
+            return replaying ? getBigDecimal().longValue() : live.getLong();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            if (!replaying) {
+                return live.getBigDecimal();
+            }
+            if (current != Event.VALUE_NUMBER) {
+                throw new IllegalStateException("Current event is not a number: " + current);
+            }
+            return new BigDecimal(getString());
+        }
+
+        @Override
+        public JsonLocation getLocation() {
+            return live.getLocation();
+        }
+
+        @Override
+        public JsonValue getValue() {
+            switch (current) {
+            case START_OBJECT:
+                return getObject();
+            case START_ARRAY:
+                return getArray();
+            case KEY_NAME:
+            case VALUE_STRING:
+                return provider.createValue(getString());
+            case VALUE_NUMBER:
+                return provider.createValue(getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw new IllegalStateException("Current event is not a value: " + current);
+            }
+        }
+
+        @Override
+        public JsonObject getObject() {
+            if (current != Event.START_OBJECT) {
+                throw new IllegalStateException("Current event is not a start of the object: " + current);
+            }
+            JsonObjectBuilder builder = provider.createObjectBuilder();
+            while (next() != Event.END_OBJECT) {
+                String key = getString();
+                next();
+                builder.add(key, getValue());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public JsonArray getArray() {
+            if (current != Event.START_ARRAY) {
+                throw new IllegalStateException("Current event is not a start of the array: " + current);
+            }
+            JsonArrayBuilder builder = provider.createArrayBuilder();
+            while (next() != Event.END_ARRAY) {
+                builder.add(getValue());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public void skipObject() {
+            skip(Event.START_OBJECT, Event.END_OBJECT);
+        }
+
+        @Override
+        public void skipArray() {
+            skip(Event.START_ARRAY, Event.END_ARRAY);
+        }
+
+        private void skip(Event start, Event end) {
+            if (!replaying) {
+                //all the buffered events have already been read
+                if (end == Event.END_OBJECT) {
+                    live.skipObject();
+                } else {
+                    live.skipArray();
+                }
+                current = end;
+                return;
+            }
+            int depth = 1;
+            while (depth > 0) {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("There are no more elements available!");
+                }
+                Event event = next();
+                if (event == start) {
+                    depth++;
+                } else if (event == end) {
+                    depth--;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            //noop, live parser is closed by its owner
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -54,7 +54,7 @@ class UserDefinedDeserializer implements ModelDeserializer<JsonParser> {
 
     @Override
     public Object deserialize(JsonParser value, DeserializationContextImpl context) {
-        DeserializationContextImpl newContext = new DeserializationContextImpl(context);
+        DeserializationContextImpl newContext = context.nestedContext();
         newContext.setCustomization(customization);
         //TODO remove or not? deserializer cycle
         //        if (context.getUserProcessorChain().contains(userDefinedDeserializer.getClass())) {
@@ -65,10 +65,15 @@ class UserDefinedDeserializer implements ModelDeserializer<JsonParser> {
         //            return exactType.deserialize(value, newContext);
         //        }
         //        newContext.getUserProcessorChain().add(userDefinedDeserializer.getClass());
-        YassonParser yassonParser = new YassonParser(value, context.getLastValueEvent(), newContext);
-        Object object = userDefinedDeserializer.deserialize(yassonParser, newContext, rType);
-        yassonParser.skipRemaining();
-        context.setLastValueEvent(newContext.getLastValueEvent());
+        Object object;
+        try {
+            YassonParser yassonParser = new YassonParser(value, context.getLastValueEvent(), newContext);
+            object = userDefinedDeserializer.deserialize(yassonParser, newContext, rType);
+            yassonParser.skipRemaining();
+            context.setLastValueEvent(newContext.getLastValueEvent());
+        } finally {
+            newContext.release();
+        }
         return delegate.deserialize(object, context);
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,21 +12,21 @@
 
 package org.eclipse.yasson.internal.deserializer;
 
-import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 
 import jakarta.json.bind.JsonbException;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.model.ValueSetter;
 
 /**
- * Value setter. Invokes created {@link MethodHandle} to set deserialized value to the instance.
+ * Value setter. Invokes property {@link ValueSetter} to set deserialized value to the instance.
  */
 class ValueSetterDeserializer implements ModelDeserializer<Object> {
 
-    private final MethodHandle valueSetter;
+    private final ValueSetter valueSetter;
 
-    ValueSetterDeserializer(MethodHandle valueSetter) {
+    ValueSetterDeserializer(ValueSetter valueSetter) {
         this.valueSetter = Objects.requireNonNull(valueSetter);
     }
 
@@ -34,7 +34,7 @@ class ValueSetterDeserializer implements ModelDeserializer<Object> {
     public Object deserialize(Object value, DeserializationContextImpl context) {
         Object object = context.getInstance();
         try {
-            valueSetter.invoke(object, value);
+            valueSetter.setValue(object, value);
             return value;
         } catch (Throwable e) {
             throw new JsonbException("Error setting value on: " + object, e);
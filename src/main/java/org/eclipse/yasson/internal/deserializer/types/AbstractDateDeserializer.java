@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -65,7 +65,13 @@ abstract class AbstractDateDeserializer<T> extends TypeDeserializer {
             }
         }
         if (properties.isStrictIJson()) {
-            return (value, context) -> parseWithFormatterInternal(value, JsonbDateFormatter.IJSON_DATE_FORMATTER);
+            return (value, context) -> {
+                try {
+                    return parseStrictIJson(value);
+                } catch (DateTimeException e) {
+                    throw new JsonbException(Messages.getMessage(MessageKeys.DATE_PARSE_ERROR, value, getType()), e);
+                }
+            };
         }
         Locale locale = properties.getLocale(formatter.getLocale());
         return (value, context) -> {
@@ -118,6 +124,16 @@ abstract class AbstractDateDeserializer<T> extends TypeDeserializer {
      */
     abstract T parseWithFormatter(String jsonValue, DateTimeFormatter formatter);
 
+    /**
+     * Parse java.time date object with strict I-JSON formatter.
+     *
+     * @param jsonValue string value to parse from
+     * @return parsed date object
+     */
+    T parseStrictIJson(String jsonValue) {
+        return parseWithFormatter(jsonValue, JsonbDateFormatter.IJSON_DATE_FORMATTER);
+    }
+
     private T parseWithFormatterInternal(String jsonValue, DateTimeFormatter formatter) {
         try {
             return parseWithFormatter(jsonValue, formatter);
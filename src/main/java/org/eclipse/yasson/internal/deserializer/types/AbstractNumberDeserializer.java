@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,9 +13,7 @@
 package org.eclipse.yasson.internal.deserializer.types;
 
 import java.lang.reflect.Type;
-import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.function.Function;
@@ -24,6 +22,7 @@ import jakarta.json.bind.JsonbException;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
 import org.eclipse.yasson.internal.JsonbNumberFormatter;
+import org.eclipse.yasson.internal.PooledNumberFormat;
 import org.eclipse.yasson.internal.deserializer.ModelDeserializer;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -56,11 +55,8 @@ abstract class AbstractNumberDeserializer<T extends Number> extends TypeDeserial
         }
 
         final JsonbNumberFormatter numberFormat = customization.getDeserializeNumberFormatter();
-        //consider synchronizing on format instance or per thread cache.
         Locale locale = builder.getConfigProperties().getLocale(numberFormat.getLocale());
-        final NumberFormat format = NumberFormat.getInstance(locale);
-        ((DecimalFormat) format).applyPattern(numberFormat.getFormat());
-        format.setParseIntegerOnly(integerOnly);
+        final PooledNumberFormat format = new PooledNumberFormat(numberFormat.getFormat(), locale, integerOnly);
         Function<String, String> valueChanger = createCompatibilityValueChanger(locale);
         return (value, context) -> {
             try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,8 @@
 
 package org.eclipse.yasson.internal.deserializer.types;
 
+import org.eclipse.yasson.internal.FloatingPointFormat;
+
 /**
  * Deserializer of the {@link Float} type.
  */
@@ -23,7 +25,7 @@ class FloatDeserializer extends AbstractNumberDeserializer<Float> {
 
     @Override
     Float parseNumberValue(String value) {
-        return Float.parseFloat(value);
+        return FloatingPointFormat.parseFloat(value);
     }
 
 }
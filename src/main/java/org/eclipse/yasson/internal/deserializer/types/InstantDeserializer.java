@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,9 +13,12 @@
 package org.eclipse.yasson.internal.deserializer.types;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
+
 /**
  * Deserializer of the {@link Instant} type.
  */
@@ -34,7 +37,14 @@ class InstantDeserializer extends AbstractDateDeserializer<Instant> {
 
     @Override
     protected Instant parseDefault(String jsonValue, Locale locale) {
-        return Instant.from(DEFAULT_FORMATTER.withLocale(locale).parse(jsonValue));
+        Instant parsed = IsoDateTimeFormat.parseInstant(jsonValue);
+        return parsed != null ? parsed : Instant.from(DEFAULT_FORMATTER.withLocale(locale).parse(jsonValue));
+    }
+
+    @Override
+    Instant parseStrictIJson(String jsonValue) {
+        OffsetDateTime parsed = IsoDateTimeFormat.parseIJson(jsonValue);
+        return parsed != null ? parsed.toInstant() : super.parseStrictIJson(jsonValue);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,9 +14,12 @@ package org.eclipse.yasson.internal.deserializer.types;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
+
 /**
  * Deserializer of the {@link LocalDate} type.
  */
@@ -33,7 +36,14 @@ class LocalDateDeserializer extends AbstractDateDeserializer<LocalDate> {
 
     @Override
     protected LocalDate parseDefault(String jsonValue, Locale locale) {
-        return LocalDate.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE.withLocale(locale));
+        LocalDate parsed = IsoDateTimeFormat.parseLocalDate(jsonValue);
+        return parsed != null ? parsed : LocalDate.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE.withLocale(locale));
+    }
+
+    @Override
+    LocalDate parseStrictIJson(String jsonValue) {
+        OffsetDateTime parsed = IsoDateTimeFormat.parseIJson(jsonValue);
+        return parsed != null ? parsed.toLocalDate() : super.parseStrictIJson(jsonValue);
     }
 
     @Override
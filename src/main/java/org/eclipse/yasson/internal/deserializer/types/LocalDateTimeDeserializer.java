@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,9 +14,12 @@ package org.eclipse.yasson.internal.deserializer.types;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
+
 /**
  * Deserializer of the {@link LocalDateTime} type.
  */
@@ -33,7 +36,14 @@ class LocalDateTimeDeserializer extends AbstractDateDeserializer<LocalDateTime>
 
     @Override
     protected LocalDateTime parseDefault(String jsonValue, Locale locale) {
-        return LocalDateTime.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale));
+        LocalDateTime parsed = IsoDateTimeFormat.parseLocalDateTime(jsonValue);
+        return parsed != null ? parsed : LocalDateTime.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale));
+    }
+
+    @Override
+    LocalDateTime parseStrictIJson(String jsonValue) {
+        OffsetDateTime parsed = IsoDateTimeFormat.parseIJson(jsonValue);
+        return parsed != null ? parsed.toLocalDateTime() : super.parseStrictIJson(jsonValue);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -55,12 +55,10 @@ class ObjectTypeDeserializer implements ModelDeserializer<JsonParser> {
             toSet = value.getString();
             break;
         case START_OBJECT:
-            DeserializationContextImpl newContext = new DeserializationContextImpl(context);
-            toSet = newContext.deserialize(mapClass, value);
+            toSet = deserializeNested(mapClass, value, context);
             break;
         case START_ARRAY:
-            DeserializationContextImpl newContext1 = new DeserializationContextImpl(context);
-            toSet = newContext1.deserialize(LIST, value);
+            toSet = deserializeNested(LIST, value, context);
             break;
         default:
             throw new JsonbException("Unexpected event: " + context.getLastValueEvent());
@@ -68,4 +66,13 @@ class ObjectTypeDeserializer implements ModelDeserializer<JsonParser> {
         return delegate.deserialize(toSet, context);
     }
 
+    private static Object deserializeNested(Type type, JsonParser parser, DeserializationContextImpl context) {
+        DeserializationContextImpl newContext = context.nestedContext();
+        try {
+            return newContext.deserialize(type, parser);
+        } finally {
+            newContext.release();
+        }
+    }
+
 }
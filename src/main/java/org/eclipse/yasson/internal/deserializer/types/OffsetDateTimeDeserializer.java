@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,6 +18,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.logging.Logger;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -44,7 +45,14 @@ class OffsetDateTimeDeserializer extends AbstractDateDeserializer<OffsetDateTime
 
     @Override
     protected OffsetDateTime parseDefault(String jsonValue, Locale locale) {
-        return OffsetDateTime.parse(jsonValue, DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale));
+        OffsetDateTime parsed = IsoDateTimeFormat.parseOffsetDateTime(jsonValue);
+        return parsed != null ? parsed : OffsetDateTime.parse(jsonValue, DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale));
+    }
+
+    @Override
+    OffsetDateTime parseStrictIJson(String jsonValue) {
+        OffsetDateTime parsed = IsoDateTimeFormat.parseIJson(jsonValue);
+        return parsed != null ? parsed : super.parseStrictIJson(jsonValue);
     }
 
     @Override
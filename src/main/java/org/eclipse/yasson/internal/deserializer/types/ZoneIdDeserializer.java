@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,7 @@ import java.lang.reflect.Type;
 import java.time.ZoneId;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 
 /**
  * Deserializer of the {@link ZoneId} type.
@@ -28,6 +29,6 @@ class ZoneIdDeserializer extends TypeDeserializer {
 
     @Override
     Object deserializeStringValue(String value, DeserializationContextImpl context, Type rType) {
-        return ZoneId.of(value);
+        return IsoDateTimeFormat.zoneId(value);
     }
 }
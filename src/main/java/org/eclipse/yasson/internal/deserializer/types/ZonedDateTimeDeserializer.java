@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,11 +13,13 @@
 package org.eclipse.yasson.internal.deserializer.types;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.logging.Logger;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -44,7 +46,14 @@ class ZonedDateTimeDeserializer extends AbstractDateDeserializer<ZonedDateTime>
 
     @Override
     protected ZonedDateTime parseDefault(String jsonValue, Locale locale) {
-        return ZonedDateTime.parse(jsonValue, DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(locale));
+        ZonedDateTime parsed = IsoDateTimeFormat.parseZonedDateTime(jsonValue);
+        return parsed != null ? parsed : ZonedDateTime.parse(jsonValue, DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(locale));
+    }
+
+    @Override
+    ZonedDateTime parseStrictIJson(String jsonValue) {
+        OffsetDateTime parsed = IsoDateTimeFormat.parseIJson(jsonValue);
+        return parsed != null ? parsed.atZoneSameInstant(UTC) : super.parseStrictIJson(jsonValue);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -23,6 +23,7 @@ import jakarta.json.bind.JsonbException;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.FloatingPointNumber;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -85,6 +86,10 @@ public class JsonGeneratorToStructureAdapter implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, JsonValue value) {
+        if (value instanceof FloatingPointNumber) {
+            //preformatted number is stored as the provider number
+            return write(name, ((FloatingPointNumber) value).bigDecimalValue());
+        }
         getJsonObjectBuilder(name).write(name, value);
         return this;
     }
@@ -161,6 +166,9 @@ public class JsonGeneratorToStructureAdapter implements JsonGenerator {
 
     @Override
     public JsonGenerator write(JsonValue value) {
+        if (value instanceof FloatingPointNumber) {
+            return write(((FloatingPointNumber) value).bigDecimalValue());
+        }
         builders.peek().write(value);
         return this;
     }
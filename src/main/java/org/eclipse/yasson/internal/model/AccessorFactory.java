@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.yasson.internal.ReflectionUtils;
+
+/**
+ * Factory of the property accessors and instance suppliers.
+ * <br>
+ * Getter and setter methods and default constructors are spun into accessor classes with {@link LambdaMetafactory},
+ * so every member has its own accessor class and the call through it can be inlined. Field handles, members which are
+ * not public, and members whose types are not public, exported to Yasson or visible from the Yasson class loader are
+ * accessed through the {@link MethodHandle} instead.
+ * <br>
+ * Java 16+ version of this class generates hidden accessor classes for all the handles.
+ */
+final class AccessorFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_FACTORY = MethodType.methodType(ValueGetter.class);
+    private static final MethodType GETTER_METHOD = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_FACTORY = MethodType.methodType(ValueSetter.class);
+    private static final MethodType SETTER_METHOD = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(InstanceSupplier.class);
+    private static final MethodType SUPPLIER_METHOD = MethodType.methodType(Object.class);
+
+    private AccessorFactory() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Create getter accessor invoking the given handle.
+     *
+     * @param handle handle reading the property value
+     * @return getter accessor
+     */
+    static ValueGetter createGetter(MethodHandle handle) {
+        if (isSpinnable(handle)) {
+            try {
+                addReads(handle.type());
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP,
+                                                                  "getValue",
+                                                                  GETTER_FACTORY,
+                                                                  GETTER_METHOD,
+                                                                  handle,
+                                                                  handle.type().wrap());
+                return (ValueGetter) newAccessor(callSite);
+            } catch (LambdaConversionException ignored) {
+                //accessor class could not be spun, method handle is used
+            }
+        }
+        return instance -> handle.invoke(instance);
+    }
+
+    /**
+     * Create setter accessor invoking the given handle.
+     *
+     * @param handle handle writing the property value
+     * @return setter accessor
+     */
+    static ValueSetter createSetter(MethodHandle handle) {
+        if (isSpinnable(handle)) {
+            try {
+                addReads(handle.type());
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP,
+                                                                  "setValue",
+                                                                  SETTER_FACTORY,
+                                                                  SETTER_METHOD,
+                                                                  handle,
+                                                                  handle.type().wrap().changeReturnType(void.class));
+                return (ValueSetter) newAccessor(callSite);
+            } catch (LambdaConversionException ignored) {
+                //accessor class could not be spun, method handle is used
+            }
+        }
+        return (instance, value) -> handle.invoke(instance, value);
+    }
+
+    /**
+     * Create instance supplier invoking the given default constructor.
+     *
+     * @param constructor default constructor
+     * @return instance supplier
+     */
+    static InstanceSupplier createInstanceSupplier(Constructor<?> constructor) {
+        MethodHandle handle = constructorHandle(constructor);
+        if (handle == null) {
+            //constructor cannot be invoked by the handle, reflection reports the failure when used
+            return () -> ReflectionUtils.createNoArgConstructorInstance(constructor);
+        }
+        if (isSpinnable(handle)) {
+            try {
+                addReads(handle.type());
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP,
+                                                                  "newInstance",
+                                                                  SUPPLIER_FACTORY,
+                                                                  SUPPLIER_METHOD,
+                                                                  handle,
+                                                                  handle.type());
+                return (InstanceSupplier) newAccessor(callSite);
+            } catch (LambdaConversionException ignored) {
+                //supplier class could not be spun, method handle is used
+            }
+        }
+        return () -> handle.invoke();
+    }
+
+    private static MethodHandle constructorHandle(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object newAccessor(CallSite callSite) {
+        try {
+            return callSite.getTarget().invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            //factory of the non-capturing lambda does not throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isSpinnable(MethodHandle handle) {
+        MethodHandleInfo info;
+        try {
+            info = LOOKUP.revealDirect(handle);
+        } catch (IllegalArgumentException | SecurityException e) {
+            return false;
+        }
+        int kind = info.getReferenceKind();
+        if (kind != MethodHandleInfo.REF_invokeVirtual
+                && kind != MethodHandleInfo.REF_invokeInterface
+                && kind != MethodHandleInfo.REF_newInvokeSpecial) {
+            return false;
+        }
+        //spun class calls the member directly, so it has to be accessible from Yasson
+        if (!Modifier.isPublic(info.getModifiers()) || !isAccessible(info.getDeclaringClass())) {
+            return false;
+        }
+        MethodType type = handle.type();
+        for (Class<?> parameterType : type.parameterArray()) {
+            if (!isAccessible(parameterType)) {
+                return false;
+            }
+        }
+        return isAccessible(type.returnType());
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        if (elementType.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(elementType.getModifiers())
+                || !elementType.getModule().isExported(elementType.getPackageName(), AccessorFactory.class.getModule())) {
+            return false;
+        }
+        try {
+            return Class.forName(elementType.getName(), false, AccessorFactory.class.getClassLoader()) == elementType;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static void addReads(MethodType type) {
+        Module module = AccessorFactory.class.getModule();
+        for (Class<?> parameterType : type.parameterArray()) {
+            module.addReads(parameterType.getModule());
+        }
+        module.addReads(type.returnType().getModule());
+    }
+
+}
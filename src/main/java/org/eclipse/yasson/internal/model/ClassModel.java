@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -43,6 +43,8 @@ public class ClassModel {
 
     private Constructor<?> defaultConstructor;
 
+    private volatile InstanceSupplier defaultInstanceSupplier;
+
     /**
      * A map of all class properties, including properties from superclasses. Used to access by name.
      */
@@ -202,6 +204,24 @@ public class ClassModel {
         return defaultConstructor;
     }
 
+    /**
+     * Supplier of the new instances created by the default constructor. Supplier is created on the first request.
+     *
+     * @return default instance supplier or null if the class has no default constructor
+     */
+    public InstanceSupplier getDefaultInstanceSupplier() {
+        InstanceSupplier supplier = defaultInstanceSupplier;
+        if (supplier == null) {
+            Constructor<?> constructor = getDefaultConstructor();
+            if (constructor == null) {
+                return null;
+            }
+            supplier = InstanceSupplier.of(constructor);
+            defaultInstanceSupplier = supplier;
+        }
+        return supplier;
+    }
+
     @Override
     public String toString() {
         return "ClassModel{"
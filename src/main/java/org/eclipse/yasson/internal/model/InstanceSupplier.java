@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creator of the new instances with the default constructor.
+ * <br>
+ * Instances are created by {@link AccessorFactory}.
+ */
+@FunctionalInterface
+public interface InstanceSupplier {
+
+    /**
+     * Create new instance.
+     *
+     * @return created instance
+     * @throws Throwable any exception thrown by the underlying constructor
+     */
+    Object newInstance() throws Throwable;
+
+    /**
+     * Create supplier invoking the given default constructor.
+     *
+     * @param constructor default constructor
+     * @return instance supplier
+     */
+    static InstanceSupplier of(Constructor<?> constructor) {
+        return AccessorFactory.createInstanceSupplier(constructor);
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,9 @@
 
 package org.eclipse.yasson.internal.model;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
@@ -24,11 +27,20 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Object holding reference to Constructor / Method for custom object creation.
+ * <br>
+ * Creator is compiled into the spreading {@link MethodHandle} when it is created. If the handle cannot be obtained,
+ * creator is called reflectively.
  */
 public class JsonbCreator {
 
+    private static final MethodHandles.Lookup LOOKUP = ModulesUtil.lookup();
+
+    private static final MethodType CREATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     private final Executable executable;
 
+    private final MethodHandle creatorHandle;
+
     private final CreatorModel[] params;
 
     /**
@@ -39,9 +51,23 @@ public class JsonbCreator {
      */
     public JsonbCreator(Executable executable, CreatorModel[] creatorModels) {
         this.executable = executable;
+        this.creatorHandle = createCreatorHandle(executable);
         this.params = creatorModels;
     }
 
+    private static MethodHandle createCreatorHandle(Executable executable) {
+        try {
+            MethodHandle handle = executable instanceof Constructor
+                    ? LOOKUP.unreflectConstructor((Constructor<?>) executable)
+                    : LOOKUP.unreflect((Method) executable);
+            return handle.asFixedArity()
+                    .asSpreader(Object[].class, executable.getParameterCount())
+                    .asType(CREATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     /**
      * Create instance by either constructor or factory method, with provided parameter values and a Class to call on.
      *
@@ -52,6 +78,17 @@ public class JsonbCreator {
      */
     @SuppressWarnings("unchecked")
     public <T> T call(Object[] params, Class<T> on) {
+        if (creatorHandle != null) {
+            try {
+                return (T) creatorHandle.invokeExact(params);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                //reported the same way as by the reflective call
+                throw new JsonbException(Messages.getMessage(MessageKeys.ERROR_CALLING_JSONB_CREATOR, on),
+                                         new InvocationTargetException(e));
+            }
+        }
         try {
             if (executable instanceof Constructor) {
                 return ((Constructor<T>) executable).newInstance(params);
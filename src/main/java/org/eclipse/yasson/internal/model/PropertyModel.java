@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -82,6 +82,10 @@ public final class PropertyModel implements Comparable<PropertyModel> {
 
     private final MethodHandle setValueHandle;
 
+    private volatile ValueGetter valueGetter;
+
+    private volatile ValueSetter valueSetter;
+
     private final Field field;
 
     private final Method getter;
@@ -348,7 +352,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      */
     public Object getValue(Object object) {
         try {
-            return getValueHandle.invoke(object);
+            return getValueGetter().getValue(object);
         } catch (Throwable e) {
             throw new JsonbException("Error getting value on: " + object, e);
         }
@@ -367,7 +371,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
             return;
         }
         try {
-            setValueHandle.invoke(object, value);
+            getValueSetter().setValue(object, value);
         } catch (Throwable e) {
             throw new JsonbException("Error setting value on: " + object, e);
         }
@@ -639,4 +643,32 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         return setValueHandle;
     }
 
+    /**
+     * Accessor reading the property value. Accessor is created on the first request.
+     *
+     * @return property value getter or null if property is not readable
+     */
+    public ValueGetter getValueGetter() {
+        ValueGetter getter = valueGetter;
+        if (getter == null && getValueHandle != null) {
+            getter = AccessorFactory.createGetter(getValueHandle);
+            valueGetter = getter;
+        }
+        return getter;
+    }
+
+    /**
+     * Accessor writing the property value. Accessor is created on the first request.
+     *
+     * @return property value setter or null if property is not writable
+     */
+    public ValueSetter getValueSetter() {
+        ValueSetter setter = valueSetter;
+        if (setter == null && setValueHandle != null) {
+            setter = AccessorFactory.createSetter(setValueHandle);
+            valueSetter = setter;
+        }
+        return setter;
+    }
+
 }
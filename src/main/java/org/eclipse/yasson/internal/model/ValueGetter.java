@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+/**
+ * Accessor reading the property value from the instance.
+ * <br>
+ * Instances are created by {@link AccessorFactory}.
+ */
+@FunctionalInterface
+public interface ValueGetter {
+
+    /**
+     * Read the property value.
+     *
+     * @param instance instance to read the value from
+     * @return property value
+     * @throws Throwable any exception thrown by the underlying getter
+     */
+    Object getValue(Object instance) throws Throwable;
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -284,6 +284,10 @@ public enum MessageKeys {
      * Recursive reference detected.
      */
     RECURSIVE_REFERENCE("recursiveReference"),
+    /**
+     * Maximum depth of the serialized objects exceeded.
+     */
+    MAX_DEPTH_EXCEEDED("maxDepthExceeded"),
     /**
      * An error occurred while DatatypeFactory creation.
      */
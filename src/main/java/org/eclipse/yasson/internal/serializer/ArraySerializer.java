@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,12 +14,14 @@ package org.eclipse.yasson.internal.serializer;
 
 import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.config.BinaryDataStrategy;
 import jakarta.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.FloatingPointNumber;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.SerializationContextImpl;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -27,10 +29,19 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Array container serializer.
+ * <br>
+ * Arrays of primitives without any component customization are written element by element directly
+ * to the generator, without boxing the elements.
  */
 abstract class ArraySerializer implements ModelSerializer {
 
     private static final Map<Class<?>, Function<ModelSerializer, ArraySerializer>> ARRAY_SERIALIZERS;
+    private static final Set<Class<?>> DIRECTLY_WRITTEN_ARRAYS = Set.of(boolean[].class,
+                                                                        byte[].class,
+                                                                        double[].class,
+                                                                        int[].class,
+                                                                        long[].class,
+                                                                        short[].class);
 
     static {
         ARRAY_SERIALIZERS = Map.of(boolean[].class, BooleanArraySerializer::new,
@@ -45,19 +56,37 @@ abstract class ArraySerializer implements ModelSerializer {
 
     private final ModelSerializer valueSerializer;
 
+    /**
+     * Create new array serializer.
+     *
+     * @param valueSerializer serializer of the array components, null if primitive components are written directly
+     */
     protected ArraySerializer(ModelSerializer valueSerializer) {
         this.valueSerializer = valueSerializer;
     }
 
+    /**
+     * Create new array serializer.
+     *
+     * @param arrayType          type of the array
+     * @param jsonbContext       jsonb context
+     * @param modelSerializer    serializer of the array components
+     * @param defaultComponent   whether components are serialized by the default type serializer, without any
+     *                           user serializer, adapter or number format. Primitive components are then written
+     *                           directly to the generator.
+     * @return array serializer
+     */
     public static ModelSerializer create(Class<?> arrayType,
                                          JsonbContext jsonbContext,
-                                         ModelSerializer modelSerializer) {
+                                         ModelSerializer modelSerializer,
+                                         boolean defaultComponent) {
         String binaryDataStrategy = jsonbContext.getConfigProperties().getBinaryDataStrategy();
         if (byte[].class.equals(arrayType) && !binaryDataStrategy.equals(BinaryDataStrategy.BYTE)) {
             return new Base64ByteArraySerializer(binaryDataStrategy);
         }
         if (ARRAY_SERIALIZERS.containsKey(arrayType)) {
-            return ARRAY_SERIALIZERS.get(arrayType).apply(modelSerializer);
+            boolean writeDirectly = defaultComponent && DIRECTLY_WRITTEN_ARRAYS.contains(arrayType);
+            return ARRAY_SERIALIZERS.get(arrayType).apply(writeDirectly ? null : modelSerializer);
         }
         return new ObjectArraySerializer(modelSerializer);
     }
@@ -84,8 +113,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             byte[] array = (byte[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (byte b : array) {
+                    generator.write(b);
+                }
+                return;
+            }
             for (byte b : array) {
-                getValueSerializer().serialize(b, generator, context);
+                valueSerializer.serialize(b, generator, context);
             }
         }
 
@@ -126,8 +162,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             short[] array = (short[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (short s : array) {
+                    generator.write(s);
+                }
+                return;
+            }
             for (short s : array) {
-                getValueSerializer().serialize(s, generator, context);
+                valueSerializer.serialize(s, generator, context);
             }
         }
 
@@ -142,8 +185,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             int[] array = (int[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (int i : array) {
+                    generator.write(i);
+                }
+                return;
+            }
             for (int i : array) {
-                getValueSerializer().serialize(i, generator, context);
+                valueSerializer.serialize(i, generator, context);
             }
         }
 
@@ -158,8 +208,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             long[] array = (long[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (long l : array) {
+                    generator.write(l);
+                }
+                return;
+            }
             for (long l : array) {
-                getValueSerializer().serialize(l, generator, context);
+                valueSerializer.serialize(l, generator, context);
             }
         }
 
@@ -190,8 +247,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             double[] array = (double[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (double d : array) {
+                    FloatingPointNumber.write(generator, d);
+                }
+                return;
+            }
             for (double d : array) {
-                getValueSerializer().serialize(d, generator, context);
+                valueSerializer.serialize(d, generator, context);
             }
         }
 
@@ -206,8 +270,15 @@ abstract class ArraySerializer implements ModelSerializer {
         @Override
         public void serializeArray(Object value, JsonGenerator generator, SerializationContextImpl context) {
             boolean[] array = (boolean[]) value;
+            ModelSerializer valueSerializer = getValueSerializer();
+            if (valueSerializer == null) {
+                for (boolean b : array) {
+                    generator.write(b);
+                }
+                return;
+            }
             for (boolean b : array) {
-                getValueSerializer().serialize(b, generator, context);
+                valueSerializer.serialize(b, generator, context);
             }
         }
 
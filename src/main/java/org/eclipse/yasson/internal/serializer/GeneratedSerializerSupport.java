@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.SerializationContextImpl;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Steps of the object serialization shared by the serializers generated by the {@link ObjectSerializerGenerator}.
+ * <br>
+ * Together with the generated property calls, they do the same as the {@link KeyWriter}, {@link RecursionChecker}
+ * and {@link ObjectSerializer} of the generic chain.
+ */
+final class GeneratedSerializerSupport {
+
+    private GeneratedSerializerSupport() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Write the object start.
+     *
+     * @param value     serialized object
+     * @param generator json generator
+     * @param context   serialization context
+     * @return whether the container had nulls before, to be passed to the {@link #endObject}
+     */
+    static boolean startObject(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        context.setRoot(false);
+        boolean previousNulls = context.isContainerWithNulls();
+        context.setContainerWithNulls(false);
+        String key = context.getKey();
+        if (key != null) {
+            generator.writeKey(key);
+            context.setKey(null);
+        }
+        if (!context.addProcessedObject(value)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, value.getClass()));
+        }
+        try {
+            generator.writeStartObject();
+        } catch (RuntimeException e) {
+            context.removeProcessedObject(value);
+            throw e;
+        }
+        return previousNulls;
+    }
+
+    /**
+     * Write the object end.
+     *
+     * @param value         serialized object
+     * @param generator     json generator
+     * @param context       serialization context
+     * @param previousNulls value returned by the {@link #startObject}
+     */
+    static void endObject(Object value, JsonGenerator generator, SerializationContextImpl context, boolean previousNulls) {
+        try {
+            generator.writeEnd();
+        } finally {
+            context.removeProcessedObject(value);
+        }
+        context.setContainerWithNulls(previousNulls);
+    }
+
+    /**
+     * Create exception of the failed property serialization.
+     *
+     * @param exception    property serialization failure
+     * @param propertyName name of the failed property
+     * @param value        serialized object
+     * @param context      serialization context
+     * @return exception to be thrown
+     */
+    static JsonbException propertyError(Exception exception, String propertyName, Object value, SerializationContextImpl context) {
+        context.removeProcessedObject(value);
+        return new JsonbException(Messages.getMessage(MessageKeys.SERIALIZE_PROPERTY_ERROR, propertyName,
+                                                      value.getClass().getCanonicalName()), exception);
+    }
+
+}
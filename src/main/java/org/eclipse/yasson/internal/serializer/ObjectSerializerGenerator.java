@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.util.Map;
+
+/**
+ * Generator of the object serializers specialized for a single type.
+ * <br>
+ * Generated serializers are hidden classes with class data, which are available since Java 16.
+ * This version is used on the older Java versions, where the generic serializer chain is used instead.
+ */
+final class ObjectSerializerGenerator {
+
+    private ObjectSerializerGenerator() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Generate serializer of the object with the given properties.
+     *
+     * @param propertySerializers serializers of the properties by the property name, in the serialization order
+     * @param chain               generic serializer chain of the type
+     * @return generated serializer or the chain if the serializer cannot be generated
+     */
+    static ModelSerializer generate(Map<String, ModelSerializer> propertySerializers, ModelSerializer chain) {
+        return chain;
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.FloatingPointNumber;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
+/**
+ * Serializer of the primitive property without any customization.
+ * <br>
+ * Property value is read by the handle returning the primitive type and written directly
+ * together with the property name, so the value is never boxed.
+ */
+abstract class PrimitiveValueGetterSerializer implements ModelSerializer {
+
+    private final String name;
+
+    PrimitiveValueGetterSerializer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create new primitive property serializer.
+     *
+     * @param handle handle reading the property value
+     * @param name   name of the property in the JSON
+     * @return primitive property serializer or null if property type is not supported
+     */
+    static ModelSerializer create(MethodHandle handle, String name) {
+        Class<?> type = handle.type().returnType();
+        MethodHandle typed = handle.asType(MethodType.methodType(type, Object.class));
+        if (type == int.class) {
+            return new IntSerializer(typed, name);
+        } else if (type == long.class) {
+            return new LongSerializer(typed, name);
+        } else if (type == double.class) {
+            return new DoubleSerializer(typed, name);
+        } else if (type == boolean.class) {
+            return new BooleanSerializer(typed, name);
+        }
+        return null;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        context.setKey(null);
+        writeValue(value, name, generator);
+    }
+
+    abstract void writeValue(Object instance, String name, JsonGenerator generator);
+
+    static JsonbException getterError(Object instance, Throwable e) {
+        return new JsonbException("Error getting value on: " + instance.getClass().getName(), e);
+    }
+
+    private static final class IntSerializer extends PrimitiveValueGetterSerializer {
+
+        private final MethodHandle handle;
+
+        IntSerializer(MethodHandle handle, String name) {
+            super(name);
+            this.handle = handle;
+        }
+
+        @Override
+        void writeValue(Object instance, String name, JsonGenerator generator) {
+            int value;
+            try {
+                value = (int) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw getterError(instance, e);
+            }
+            generator.write(name, value);
+        }
+
+    }
+
+    private static final class LongSerializer extends PrimitiveValueGetterSerializer {
+
+        private final MethodHandle handle;
+
+        LongSerializer(MethodHandle handle, String name) {
+            super(name);
+            this.handle = handle;
+        }
+
+        @Override
+        void writeValue(Object instance, String name, JsonGenerator generator) {
+            long value;
+            try {
+                value = (long) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw getterError(instance, e);
+            }
+            generator.write(name, value);
+        }
+
+    }
+
+    private static final class DoubleSerializer extends PrimitiveValueGetterSerializer {
+
+        private final MethodHandle handle;
+
+        DoubleSerializer(MethodHandle handle, String name) {
+            super(name);
+            this.handle = handle;
+        }
+
+        @Override
+        void writeValue(Object instance, String name, JsonGenerator generator) {
+            double value;
+            try {
+                value = (double) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw getterError(instance, e);
+            }
+            FloatingPointNumber.write(generator, name, value);
+        }
+
+    }
+
+    private static final class BooleanSerializer extends PrimitiveValueGetterSerializer {
+
+        private final MethodHandle handle;
+
+        BooleanSerializer(MethodHandle handle, String name) {
+            super(name);
+            this.handle = handle;
+        }
+
+        @Override
+        void writeValue(Object instance, String name, JsonGenerator generator) {
+            boolean value;
+            try {
+                value = (boolean) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw getterError(instance, e);
+            }
+            generator.write(name, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.FloatingPointNumber;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+import org.eclipse.yasson.internal.model.ValueGetter;
+
+/**
+ * Serializer of the simple value property without any customization.
+ * <br>
+ * Replaces the chain of the {@link ValueGetterSerializer}, {@link NullSerializer}, {@link KeyWriter}
+ * and the type serializer. Property value is read and written directly together with the property name.
+ */
+final class PropertyWriter implements ModelSerializer {
+
+    private static final Map<Class<?>, ValueWriter> VALUE_WRITERS =
+            Map.of(String.class, (generator, name, value) -> generator.write(name, (String) value),
+                   Integer.class, (generator, name, value) -> generator.write(name, (Integer) value),
+                   Long.class, (generator, name, value) -> generator.write(name, (Long) value),
+                   Short.class, (generator, name, value) -> generator.write(name, (Short) value),
+                   Byte.class, (generator, name, value) -> generator.write(name, (Byte) value),
+                   Double.class, (generator, name, value) -> FloatingPointNumber.write(generator, name, (Double) value),
+                   Boolean.class, (generator, name, value) -> generator.write(name, (Boolean) value),
+                   BigDecimal.class, (generator, name, value) -> generator.write(name, (BigDecimal) value),
+                   BigInteger.class, (generator, name, value) -> generator.write(name, (BigInteger) value));
+
+    private final ValueGetter valueGetter;
+    private final String name;
+    private final boolean nillable;
+    private final ValueWriter valueWriter;
+
+    private PropertyWriter(ValueGetter valueGetter, String name, boolean nillable, ValueWriter valueWriter) {
+        this.valueGetter = valueGetter;
+        this.name = name;
+        this.nillable = nillable;
+        this.valueWriter = valueWriter;
+    }
+
+    /**
+     * Create new property writer.
+     *
+     * @param valueGetter getter of the property value
+     * @param name        name of the property in the JSON
+     * @param type        type of the property
+     * @param nillable    whether null value should be written
+     * @return property writer or null if property type is not supported
+     */
+    static ModelSerializer create(ValueGetter valueGetter, String name, Class<?> type, boolean nillable) {
+        ValueWriter valueWriter = VALUE_WRITERS.get(type);
+        return valueWriter == null ? null : new PropertyWriter(valueGetter, name, nillable, valueWriter);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        context.setKey(null);
+        Object object;
+        try {
+            object = valueGetter.getValue(value);
+        } catch (Throwable e) {
+            throw new JsonbException("Error getting value on: " + value.getClass().getName(), e);
+        }
+        if (object != null) {
+            valueWriter.write(generator, name, object);
+        } else if (nillable) {
+            generator.writeNull(name);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+
+        void write(JsonGenerator generator, String name, Object value);
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -35,8 +35,11 @@ class RecursionChecker implements ModelSerializer {
         if (!context.addProcessedObject(value)) {
             throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, value.getClass()));
         }
-        delegate.serialize(value, generator, context);
-        context.removeProcessedObject(value);
+        try {
+            delegate.serialize(value, generator, context);
+        } finally {
+            context.removeProcessedObject(value);
+        }
     }
 
 }
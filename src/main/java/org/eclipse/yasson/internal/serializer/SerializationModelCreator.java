@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -20,16 +21,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
 
 import jakarta.json.bind.JsonbException;
 
+import org.eclipse.yasson.RuntimeTypeCacheStatistics;
 import org.eclipse.yasson.internal.ComponentMatcher;
 import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.ModelCache;
 import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.SingleFlight;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.SerializerBinding;
 import org.eclipse.yasson.internal.model.ClassModel;
@@ -48,8 +56,10 @@ import org.eclipse.yasson.internal.serializer.types.TypeSerializers;
  */
 public class SerializationModelCreator {
 
-    private final Map<Type, ModelSerializer> explicitChain = new ConcurrentHashMap<>();
-    private final Map<Type, ModelSerializer> dynamicChain = new ConcurrentHashMap<>();
+    private final ModelCache<Type, ModelSerializer> explicitChain;
+    private final ModelCache<Type, ModelSerializer> dynamicChain;
+    private final SingleFlight<Type, ModelSerializer> rootBuilds = new SingleFlight<>();
+    private final Queue<WeakReference<RuntimeTypeCacheStatistics>> runtimeTypeCaches = new ConcurrentLinkedQueue<>();
     private final JsonbContext jsonbContext;
 
     /**
@@ -59,6 +69,51 @@ public class SerializationModelCreator {
      */
     public SerializationModelCreator(JsonbContext jsonbContext) {
         this.jsonbContext = jsonbContext;
+        int typeCacheSize = jsonbContext.getConfigProperties().getTypeCacheSize();
+        this.explicitChain = new ModelCache<>(typeCacheSize, type -> type);
+        this.dynamicChain = new ModelCache<>(typeCacheSize, type -> type);
+    }
+
+    /**
+     * Register serializer resolved from the runtime class of the serialized value.
+     * Serializer is registered only as long as it is in use by some cached serializer.
+     *
+     * @param runtimeTypeCache runtime type serializer
+     */
+    public void registerRuntimeTypeCache(RuntimeTypeCacheStatistics runtimeTypeCache) {
+        runtimeTypeCaches.removeIf(reference -> reference.get() == null);
+        runtimeTypeCaches.add(new WeakReference<>(runtimeTypeCache));
+    }
+
+    /**
+     * Statistics of all the serializers resolved from the runtime class of the serialized value.
+     *
+     * @return runtime type cache statistics
+     */
+    public List<RuntimeTypeCacheStatistics> getRuntimeTypeCaches() {
+        return runtimeTypeCaches.stream()
+                .map(WeakReference::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove the serializers of the given class and of the parameterized types it is part of.
+     *
+     * @param clazz class to remove the serializers of
+     */
+    public void evict(Class<?> clazz) {
+        explicitChain.evict(clazz);
+        dynamicChain.evict(clazz);
+    }
+
+    /**
+     * Remove all the serializers.
+     */
+    public void clear() {
+        explicitChain.clear();
+        dynamicChain.clear();
+        runtimeTypeCaches.clear();
     }
 
     /**
@@ -85,6 +140,18 @@ public class SerializationModelCreator {
      * @return type model serializer
      */
     public ModelSerializer serializerChain(Type type, boolean rootValue, boolean resolveRootAdapter) {
+        ModelSerializer serializer = explicitChain.get(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        if (rootValue && resolveRootAdapter) {
+            //concurrent requests of the same type wait for the single serializer being built
+            return rootBuilds.build(type, () -> createSerializerChain(type, true, true));
+        }
+        return createSerializerChain(type, rootValue, resolveRootAdapter);
+    }
+
+    private ModelSerializer createSerializerChain(Type type, boolean rootValue, boolean resolveRootAdapter) {
         Class<?> rawType = ReflectionUtils.getRawType(type);
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(rawType);
         LinkedList<Type> chain = new LinkedList<>();
@@ -142,8 +209,9 @@ public class SerializationModelCreator {
                                                     boolean rootValue,
                                                     boolean isKey,
                                                     boolean resolveRootAdapter) {
-        if (explicitChain.containsKey(type)) {
-            return explicitChain.get(type);
+        ModelSerializer cached = explicitChain.get(type);
+        if (cached != null) {
+            return cached;
         }
         Class<?> rawType = ReflectionUtils.getRawType(type);
         Optional<ModelSerializer> serializerBinding = userSerializer(type,
@@ -206,23 +274,60 @@ public class SerializationModelCreator {
         for (PropertyModel model : classModel.getSortedProperties()) {
             if (model.isReadable()) {
                 String name = model.getWriteName();
+                ModelSerializer propertyWriter = propertyWriter(model);
+                if (propertyWriter != null) {
+                    propertySerializers.put(name, propertyWriter);
+                    continue;
+                }
                 ModelSerializer memberModel = memberSerializer(chain,
                                                                model.getPropertySerializationType(),
                                                                model.getCustomization(),
                                                                false);
-                propertySerializers.put(name, new ValueGetterSerializer(model.getGetValueHandle(), memberModel));
+                propertySerializers.put(name, new ValueGetterSerializer(model.getValueGetter(), memberModel));
             }
         }
         ModelSerializer objectSerializer = new ObjectSerializer(propertySerializers);
         RecursionChecker recursionChecker = new RecursionChecker(objectSerializer);
         KeyWriter keyWriter = new KeyWriter(recursionChecker);
         NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(false, keyWriter);
-        NullSerializer nullSerializer = new NullSerializer(nullVisibilitySwitcher, classModel.getClassCustomization(),
-                                                           jsonbContext);
+        ModelSerializer nullSerializer = new NullSerializer(nullVisibilitySwitcher, classModel.getClassCustomization(),
+                                                            jsonbContext);
+        if (jsonbContext.getConfigProperties().isCodegen()) {
+            nullSerializer = ObjectSerializerGenerator.generate(propertySerializers, nullSerializer);
+        }
         explicitChain.put(type, nullSerializer);
         return nullSerializer;
     }
 
+    //properties of the simple types without any customization are written by a single node instead of the whole chain
+    private ModelSerializer propertyWriter(PropertyModel model) {
+        Type type = model.getPropertySerializationType();
+        Customization customization = model.getCustomization();
+        if (!(type instanceof Class) || !isUncustomized(type, customization)) {
+            return null;
+        }
+        Class<?> rawType = (Class<?>) type;
+        if (rawType.isPrimitive()) {
+            return PrimitiveValueGetterSerializer.create(model.getGetValueHandle(), model.getWriteName());
+        } else if (rawType == String.class && jsonbContext.getConfigProperties().isStrictIJson()) {
+            return null;
+        }
+        return PropertyWriter.create(model.getValueGetter(), model.getWriteName(), rawType, customization.isNillable());
+    }
+
+    //primitive values without any serializer, adapter or number format can be written without boxing
+    private boolean isUncustomizedPrimitive(Type type, Customization customization) {
+        return type instanceof Class
+                && ((Class<?>) type).isPrimitive()
+                && isUncustomized(type, customization);
+    }
+
+    private boolean isUncustomized(Type type, Customization customization) {
+        return customization.getSerializeNumberFormatter() == null
+                && userSerializer(type, (ComponentBoundCustomization) customization).isEmpty()
+                && adapterBinding(type, (ComponentBoundCustomization) customization).isEmpty();
+    }
+
     private void addPolymorphismProperty(TypeInheritanceConfiguration typeInheritanceConfiguration,
                                          LinkedHashMap<String, ModelSerializer> propertySerializers,
                                          ClassModel classModel) {
@@ -317,7 +422,8 @@ public class SerializationModelCreator {
         Class<?> arrayComponent = raw.getComponentType();
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(arrayComponent);
         ModelSerializer modelSerializer = memberSerializer(chain, arrayComponent, classModel.getClassCustomization(), false);
-        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer);
+        boolean defaultComponent = isUncustomizedPrimitive(arrayComponent, classModel.getClassCustomization());
+        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer, defaultComponent);
         KeyWriter keyWriter = new KeyWriter(arraySerializer);
         NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(true, keyWriter);
         return new NullSerializer(nullVisibilitySwitcher, propertyCustomization, jsonbContext);
@@ -330,7 +436,7 @@ public class SerializationModelCreator {
         Class<?> component = ReflectionUtils.getRawType(((GenericArrayType) type).getGenericComponentType());
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(component);
         ModelSerializer modelSerializer = memberSerializer(chain, component, classModel.getClassCustomization(), false);
-        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer);
+        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer, false);
         KeyWriter keyWriter = new KeyWriter(arraySerializer);
         NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(true, keyWriter);
         return new NullSerializer(nullVisibilitySwitcher, propertyCustomization, jsonbContext);
@@ -382,15 +488,15 @@ public class SerializationModelCreator {
                     || Map.class.isAssignableFrom(rawType)) {
                 return serializerChain(chain, resolved, customization, false, key, true);
             } else {
-                if (dynamicChain.containsKey(resolved)) {
-                    return dynamicChain.get(resolved);
+                ModelSerializer dynamicSerializer = dynamicChain.get(resolved);
+                if (dynamicSerializer != null) {
+                    return dynamicSerializer;
                 }
                 boolean isAbstract = Modifier.isAbstract(rawType.getModifiers());
                 ModelSerializer specificTypeSerializer = null;
                 if (!isAbstract && !rawType.equals(Object.class)) {
-                    if (explicitChain.containsKey(resolved)) {
-                        specificTypeSerializer = explicitChain.get(resolved);
-                    } else {
+                    specificTypeSerializer = explicitChain.get(resolved);
+                    if (specificTypeSerializer == null) {
                         specificTypeSerializer = serializerChain(chain, resolved, customization, false, key, true);
                     }
                 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,22 +12,21 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.lang.invoke.MethodHandle;
-
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonGenerator;
 
 import org.eclipse.yasson.internal.SerializationContextImpl;
+import org.eclipse.yasson.internal.model.ValueGetter;
 
 /**
  * Extractor of the serialized value from the instance.
  */
 class ValueGetterSerializer implements ModelSerializer {
 
-    private final MethodHandle valueGetter;
+    private final ValueGetter valueGetter;
     private final ModelSerializer delegate;
 
-    ValueGetterSerializer(MethodHandle valueGetter, ModelSerializer delegate) {
+    ValueGetterSerializer(ValueGetter valueGetter, ModelSerializer delegate) {
         this.valueGetter = valueGetter;
         this.delegate = delegate;
     }
@@ -36,7 +35,7 @@ class ValueGetterSerializer implements ModelSerializer {
     public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
         Object object;
         try {
-            object = valueGetter.invoke(value);
+            object = valueGetter.getValue(value);
         } catch (Throwable e) {
             throw new JsonbException("Error getting value on: " + value.getClass().getName(), e);
         }
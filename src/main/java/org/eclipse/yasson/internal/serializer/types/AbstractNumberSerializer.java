@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,13 +12,11 @@
 
 package org.eclipse.yasson.internal.serializer.types;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-
 import jakarta.json.stream.JsonGenerator;
 
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.JsonbNumberFormatter;
+import org.eclipse.yasson.internal.PooledNumberFormat;
 import org.eclipse.yasson.internal.SerializationContextImpl;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.serializer.ModelSerializer;
@@ -41,9 +39,8 @@ abstract class AbstractNumberSerializer<T> extends TypeSerializer<T> {
         if (formatter == null) {
             return (value, generator, context) -> writeValue((T) value, generator);
         }
-        final NumberFormat format = NumberFormat
-                .getInstance(jsonbContext.getConfigProperties().getLocale(formatter.getLocale()));
-        ((DecimalFormat) format).applyPattern(formatter.getFormat());
+        final PooledNumberFormat format = new PooledNumberFormat(formatter.getFormat(),
+                jsonbContext.getConfigProperties().getLocale(formatter.getLocale()), false);
         return (value, generator, context) -> generator.write(format.format(value));
     }
 
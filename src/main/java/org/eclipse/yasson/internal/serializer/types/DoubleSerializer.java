@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,10 @@ package org.eclipse.yasson.internal.serializer.types;
 
 import jakarta.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.FloatingPointFormat;
+import org.eclipse.yasson.internal.FloatingPointNumber;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
 /**
  * Serializer of the {@link Double} type.
  */
@@ -25,6 +29,11 @@ class DoubleSerializer extends AbstractNumberSerializer<Double> {
 
     @Override
     void writeValue(Double value, JsonGenerator generator) {
-        generator.write(value);
+        FloatingPointNumber.write(generator, (double) value);
+    }
+
+    @Override
+    void serializeKey(Double key, JsonGenerator generator, SerializationContextImpl context) {
+        generator.writeKey(FloatingPointFormat.toString(key));
     }
 }
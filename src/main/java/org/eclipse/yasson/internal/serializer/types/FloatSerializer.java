@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,10 +12,12 @@
 
 package org.eclipse.yasson.internal.serializer.types;
 
-import java.math.BigDecimal;
-
 import jakarta.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.FloatingPointFormat;
+import org.eclipse.yasson.internal.FloatingPointNumber;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
 /**
  * Serializer of the {@link Float} type.
  */
@@ -28,7 +30,12 @@ class FloatSerializer extends AbstractNumberSerializer<Float> {
     @Override
     void writeValue(Float value, JsonGenerator generator) {
         //floats lose precision, after upcasting to doubles in jsonp
-        generator.write(new BigDecimal(String.valueOf(value)));
+        FloatingPointNumber.write(generator, (float) value);
+    }
+
+    @Override
+    void serializeKey(Float key, JsonGenerator generator, SerializationContextImpl context) {
+        generator.writeKey(FloatingPointFormat.toString(key));
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,7 +16,7 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
-import org.eclipse.yasson.internal.JsonbDateFormatter;
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 
 /**
  * Serializer of the {@link Instant} type.
@@ -34,7 +34,7 @@ class InstantSerializer extends AbstractDateSerializer<Instant> {
 
     @Override
     protected String formatDefault(Instant value, Locale locale) {
-        return DateTimeFormatter.ISO_INSTANT.withLocale(locale).format(value);
+        return IsoDateTimeFormat.formatInstant(value);
     }
 
     @Override
@@ -44,6 +44,6 @@ class InstantSerializer extends AbstractDateSerializer<Instant> {
 
     @Override
     protected String formatStrictIJson(Instant value) {
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(value);
+        return IsoDateTimeFormat.formatIJson(value);
     }
 }
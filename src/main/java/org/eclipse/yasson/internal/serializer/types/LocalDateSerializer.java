@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,19 +14,16 @@ package org.eclipse.yasson.internal.serializer.types;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
 import java.util.Locale;
 
-import org.eclipse.yasson.internal.JsonbDateFormatter;
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 
 /**
  * Serializer of the {@link LocalDate} type.
  */
 class LocalDateSerializer extends AbstractDateSerializer<LocalDate> {
 
-    private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE.withZone(UTC);
-
     LocalDateSerializer(TypeSerializerBuilder serializerBuilder) {
         super(serializerBuilder);
     }
@@ -38,13 +35,12 @@ class LocalDateSerializer extends AbstractDateSerializer<LocalDate> {
 
     @Override
     protected String formatDefault(LocalDate value, Locale locale) {
-        return DEFAULT_FORMAT.withLocale(locale).format(value);
+        return IsoDateTimeFormat.formatLocalDate(value);
     }
 
     @Override
     protected String formatStrictIJson(LocalDate value) {
-        final ZonedDateTime zonedDateTime = value.atTime(0, 0, 0).atZone(UTC);
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(zonedDateTime);
+        return IsoDateTimeFormat.formatIJson(value.atStartOfDay(), ZoneOffset.UTC);
     }
 
 }
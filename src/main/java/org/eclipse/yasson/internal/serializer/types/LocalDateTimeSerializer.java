@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,11 +14,11 @@ package org.eclipse.yasson.internal.serializer.types;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
-import org.eclipse.yasson.internal.JsonbDateFormatter;
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
 
 /**
  * Serializer of the {@link LocalDateTime} type.
@@ -36,7 +36,7 @@ class LocalDateTimeSerializer extends AbstractDateSerializer<LocalDateTime> {
 
     @Override
     protected String formatDefault(LocalDateTime value, Locale locale) {
-        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale).format(value);
+        return IsoDateTimeFormat.formatLocalDateTime(value);
     }
 
     @Override
@@ -46,8 +46,7 @@ class LocalDateTimeSerializer extends AbstractDateSerializer<LocalDateTime> {
 
     @Override
     protected String formatStrictIJson(LocalDateTime value) {
-        final ZonedDateTime zonedDateTime = value.atZone(UTC);
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.format(zonedDateTime);
+        return IsoDateTimeFormat.formatIJson(value, ZoneOffset.UTC);
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,10 +16,13 @@ import java.lang.reflect.Type;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.RuntimeTypeCacheStatistics;
 import org.eclipse.yasson.internal.SerializationContextImpl;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.serializer.ModelSerializer;
@@ -27,8 +30,10 @@ import org.eclipse.yasson.internal.serializer.SerializationModelCreator;
 
 /**
  * Object type serializer. Dynamically resolves the serialized type based on the serialized instance class.
+ * <br>
+ * The last two observed classes and their serializers are kept in the inline cache, checked before the cache map.
  */
-public class ObjectTypeSerializer extends TypeSerializer<Object> {
+public class ObjectTypeSerializer extends TypeSerializer<Object> implements RuntimeTypeCacheStatistics {
 
     private final Customization customization;
 
@@ -36,7 +41,13 @@ public class ObjectTypeSerializer extends TypeSerializer<Object> {
     private final List<Type> chain;
     private final boolean isKey;
 
-    ObjectTypeSerializer(TypeSerializerBuilder serializerBuilder) {
+    //entries are immutable, racy update of the inline cache only causes another lookup
+    private CacheEntry first;
+    private CacheEntry second;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ObjectTypeSerializer(TypeSerializerBuilder serializerBuilder) {
         super(serializerBuilder);
         this.customization = serializerBuilder.getCustomization();
         this.cache = new ConcurrentHashMap<>();
@@ -44,6 +55,19 @@ public class ObjectTypeSerializer extends TypeSerializer<Object> {
         this.isKey = serializerBuilder.isKey();
     }
 
+    /**
+     * Create new serializer and register it for the runtime type cache statistics.
+     * Serializer is registered only once it is fully constructed.
+     *
+     * @param serializerBuilder type serializer builder
+     * @return new object type serializer
+     */
+    static ObjectTypeSerializer create(TypeSerializerBuilder serializerBuilder) {
+        ObjectTypeSerializer serializer = new ObjectTypeSerializer(serializerBuilder);
+        serializerBuilder.getJsonbContext().getSerializationModelCreator().registerRuntimeTypeCache(serializer);
+        return serializer;
+    }
+
     @Override
     void serializeValue(Object value, JsonGenerator generator, SerializationContextImpl context) {
         //Dynamically resolved type during runtime. Cached in SerializationModelCreator.
@@ -62,10 +86,34 @@ public class ObjectTypeSerializer extends TypeSerializer<Object> {
 
     private void findSerializer(Object key, JsonGenerator generator, SerializationContextImpl context) {
         Class<?> clazz = key.getClass();
-        cache.computeIfAbsent(clazz, aClass -> {
+        CacheEntry entry = first;
+        if (entry == null || entry.type != clazz) {
+            entry = second;
+            if (entry == null || entry.type != clazz) {
+                misses.increment();
+                entry = new CacheEntry(clazz, lookupSerializer(clazz, context));
+                second = first;
+                first = entry;
+            } else {
+                hits.increment();
+            }
+        } else {
+            hits.increment();
+        }
+        entry.serializer.serialize(key, generator, context);
+    }
+
+    private ModelSerializer lookupSerializer(Class<?> clazz, SerializationContextImpl context) {
+        ModelSerializer serializer = cache.get(clazz);
+        if (serializer == null) {
             SerializationModelCreator serializationModelCreator = context.getJsonbContext().getSerializationModelCreator();
-            return serializationModelCreator.serializerChainRuntime(new LinkedList<>(chain), clazz, customization, false, isKey);
-        }).serialize(key, generator, context);
+            serializer = serializationModelCreator.serializerChainRuntime(new LinkedList<>(chain), clazz, customization, false, isKey);
+            ModelSerializer existing = cache.putIfAbsent(clazz, serializer);
+            if (existing != null) {
+                serializer = existing;
+            }
+        }
+        return serializer;
     }
 
     /**
@@ -77,4 +125,31 @@ public class ObjectTypeSerializer extends TypeSerializer<Object> {
     public void addSpecificSerializer(Class<?> clazz, ModelSerializer modelSerializer) {
         cache.put(clazz, modelSerializer);
     }
+
+    @Override
+    public Set<Class<?>> getObservedTypes() {
+        return Set.copyOf(cache.keySet());
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static final class CacheEntry {
+
+        private final Class<?> type;
+        private final ModelSerializer serializer;
+
+        private CacheEntry(Class<?> type, ModelSerializer serializer) {
+            this.type = type;
+            this.serializer = serializer;
+        }
+
+    }
 }
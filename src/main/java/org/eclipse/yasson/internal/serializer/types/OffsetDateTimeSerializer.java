@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,9 +14,10 @@ package org.eclipse.yasson.internal.serializer.types;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import org.eclipse.yasson.internal.IsoDateTimeFormat;
+
 /**
  * Serializer of the {@link OffsetDateTime} type.
  */
@@ -33,6 +34,6 @@ class OffsetDateTimeSerializer extends AbstractDateSerializer<OffsetDateTime> {
 
     @Override
     protected String formatDefault(OffsetDateTime value, Locale locale) {
-        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale).format(value);
+        return IsoDateTimeFormat.formatOffsetDateTime(value);
     }
 }
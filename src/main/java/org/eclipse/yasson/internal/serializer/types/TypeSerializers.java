@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -99,7 +99,7 @@ public class TypeSerializers {
         cache.put(Long.TYPE, LongSerializer::new);
         cache.put(MonthDay.class, MonthDayTypeSerializer::new);
         cache.put(Number.class, NumberSerializer::new);
-        cache.put(Object.class, ObjectTypeSerializer::new);
+        cache.put(Object.class, ObjectTypeSerializer::create);
         cache.put(OffsetDateTime.class, OffsetDateTimeSerializer::new);
         cache.put(OffsetTime.class, OffsetTimeSerializer::new);
         cache.put(Path.class, PathSerializer::new);
@@ -0,0 +1,813 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of the class files of the hidden classes generated at runtime.
+ * <br>
+ * Only the constructs used by Yasson are supported: public final class with public methods, reference and int locals,
+ * branches, table switches, exception handlers and stack map frames. Objects the generated code works with are
+ * loaded as dynamic constants from the class data of the hidden class, so JIT treats them as constants and is able
+ * to inline the calls on them.
+ */
+public final class ClassFileWriter {
+
+    private static final int CLASS_VERSION = 60;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int REF_INVOKE_STATIC = 6;
+
+    private static final int ITEM_INTEGER = 1;
+    private static final int ITEM_OBJECT = 7;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String CLASS_DATA_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+            + "Ljava/lang/Class;)Ljava/lang/Object;";
+    private static final String CLASS_DATA_AT_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+            + "Ljava/lang/Class;I)Ljava/lang/Object;";
+
+    private final List<byte[]> constants = new ArrayList<>();
+    private final Map<String, Integer> constantIndexes = new HashMap<>();
+    private final List<int[]> bootstrapMethods = new ArrayList<>();
+    private final List<Code> methods = new ArrayList<>();
+    private final List<Integer> dynamicConstants = new ArrayList<>();
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+
+    /**
+     * Create writer of the class extending {@link Object}.
+     *
+     * @param className      internal name of the generated class
+     * @param interfaceNames internal names of the implemented interfaces
+     */
+    public ClassFileWriter(String className, String... interfaceNames) {
+        this.thisClass = classConstant(className);
+        this.superClass = classConstant(OBJECT);
+        this.interfaces = Arrays.stream(interfaceNames).mapToInt(this::classConstant).toArray();
+    }
+
+    /**
+     * Add public constructor without parameters.
+     */
+    public void defaultConstructor() {
+        Code code = method("<init>", "()V", 1, 1);
+        code.load(0);
+        code.invokeSpecial(OBJECT, "<init>", "()V");
+        code.returnVoid();
+    }
+
+    /**
+     * Add public final method. Method code is written to the returned {@link Code}.
+     *
+     * @param name       method name
+     * @param descriptor method descriptor
+     * @param maxStack   maximal depth of the operand stack
+     * @param maxLocals  number of the local variables including the parameters
+     * @return code of the method
+     */
+    public Code method(String name, String descriptor, int maxStack, int maxLocals) {
+        int access = "<init>".equals(name) ? ACC_PUBLIC : ACC_PUBLIC | ACC_FINAL;
+        Code code = new Code(access, utf8(name), utf8(descriptor), maxStack, maxLocals);
+        methods.add(code);
+        return code;
+    }
+
+    /**
+     * Dynamic constant of the whole class data of the hidden class.
+     *
+     * @param descriptor descriptor of the class data type
+     * @return constant index
+     */
+    public int classData(String descriptor) {
+        int bootstrap = bootstrapMethod(methodHandle("classData", CLASS_DATA_DESCRIPTOR));
+        return dynamicConstant(bootstrap, descriptor);
+    }
+
+    /**
+     * Dynamic constant of the element of the class data of the hidden class, class data has to be a {@link List}.
+     *
+     * @param descriptor descriptor of the element type
+     * @param index      index of the element
+     * @return constant index
+     */
+    public int classDataAt(String descriptor, int index) {
+        int bootstrap = bootstrapMethod(methodHandle("classDataAt", CLASS_DATA_AT_DESCRIPTOR), integer(index));
+        return dynamicConstant(bootstrap, descriptor);
+    }
+
+    /**
+     * Write the class file.
+     *
+     * @return class file bytes
+     */
+    public byte[] toByteArray() {
+        List<Code> classMethods = new ArrayList<>(methods);
+        if (!dynamicConstants.isEmpty()) {
+            classMethods.add(staticInitializer());
+        }
+        //constants used by the attributes have to be created before the constant pool is written
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int interfaceClass : interfaces) {
+                out.writeShort(interfaceClass);
+            }
+            //fields
+            out.writeShort(0);
+            out.writeShort(classMethods.size());
+            for (Code method : classMethods) {
+                method.write(out);
+            }
+            if (bootstrapMethods.isEmpty()) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(utf8("BootstrapMethods"));
+                int length = 2;
+                for (int[] bootstrapMethod : bootstrapMethods) {
+                    length += 2 + bootstrapMethod.length * 2;
+                }
+                out.writeInt(length);
+                out.writeShort(bootstrapMethods.size());
+                for (int[] bootstrapMethod : bootstrapMethods) {
+                    out.writeShort(bootstrapMethod[0]);
+                    out.writeShort(bootstrapMethod.length - 1);
+                    for (int i = 1; i < bootstrapMethod.length; i++) {
+                        out.writeShort(bootstrapMethod[i]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            out.writeShort(constants.size() + 1);
+            for (byte[] constant : constants) {
+                out.write(constant);
+            }
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private int utf8(String value) {
+        return constant("UTF8:" + value, out -> {
+            out.writeByte(CONSTANT_UTF8);
+            out.writeUTF(value);
+        });
+    }
+
+    private int integer(int value) {
+        return constant("INT:" + value, out -> {
+            out.writeByte(CONSTANT_INTEGER);
+            out.writeInt(value);
+        });
+    }
+
+    private int string(String value) {
+        return constant("STRING:" + value, out -> {
+            out.writeByte(CONSTANT_STRING);
+            out.writeShort(utf8(value));
+        });
+    }
+
+    private int classConstant(String internalName) {
+        return constant("CLASS:" + internalName, out -> {
+            out.writeByte(CONSTANT_CLASS);
+            out.writeShort(utf8(internalName));
+        });
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        return constant("NAT:" + name + ":" + descriptor, out -> {
+            out.writeByte(CONSTANT_NAME_AND_TYPE);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+        });
+    }
+
+    private int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+        return constant((isInterface ? "IMETHOD:" : "METHOD:") + owner + "." + name + descriptor, out -> {
+            out.writeByte(isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF);
+            out.writeShort(classConstant(owner));
+            out.writeShort(nameAndType(name, descriptor));
+        });
+    }
+
+    private int methodHandle(String name, String descriptor) {
+        return constant("MH:" + name, out -> {
+            out.writeByte(CONSTANT_METHOD_HANDLE);
+            out.writeByte(REF_INVOKE_STATIC);
+            out.writeShort(methodRef(METHOD_HANDLES, name, descriptor, false));
+        });
+    }
+
+    private int bootstrapMethod(int... methodAndArguments) {
+        for (int i = 0; i < bootstrapMethods.size(); i++) {
+            if (Arrays.equals(bootstrapMethods.get(i), methodAndArguments)) {
+                return i;
+            }
+        }
+        bootstrapMethods.add(methodAndArguments);
+        return bootstrapMethods.size() - 1;
+    }
+
+    private int dynamicConstant(int bootstrapMethod, String descriptor) {
+        int constant = constant("CONDY:" + bootstrapMethod + ":" + descriptor, out -> {
+            out.writeByte(CONSTANT_DYNAMIC);
+            out.writeShort(bootstrapMethod);
+            out.writeShort(nameAndType("_", descriptor));
+        });
+        if (!dynamicConstants.contains(constant)) {
+            dynamicConstants.add(constant);
+        }
+        return constant;
+    }
+
+    //C2 does not compile methods with unresolved dynamic constants, the constants of the code which has not run yet,
+    //such as the rarely taken branches, are therefore resolved when the class is initialized
+    private Code staticInitializer() {
+        Code code = new Code(ACC_STATIC, utf8("<clinit>"), utf8("()V"), 1, 0);
+        for (int constant : dynamicConstants) {
+            code.loadConstant(constant);
+            code.pop();
+        }
+        code.returnVoid();
+        return code;
+    }
+
+    private int constant(String key, ConstantWriter writer) {
+        Integer existing = constantIndexes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        constants.add(bytes.toByteArray());
+        int index = constants.size();
+        constantIndexes.put(key, index);
+        return index;
+    }
+
+    private static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            boolean array = descriptor.charAt(i) == '[';
+            while (descriptor.charAt(i) == '[') {
+                i++;
+            }
+            char type = descriptor.charAt(i);
+            if (type == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            //arrays are references even if their component is long or double
+            slots += !array && (type == 'J' || type == 'D') ? 2 : 1;
+            i++;
+        }
+        return slots;
+    }
+
+    /**
+     * Bytecode of a single method. Branch targets and exception handlers have to be preceded by a stack map frame.
+     */
+    public final class Code {
+
+        private static final int ACONST_NULL = 0x01;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int LDC_W = 0x13;
+        private static final int ILOAD = 0x15;
+        private static final int ALOAD = 0x19;
+        private static final int ISTORE = 0x36;
+        private static final int ASTORE = 0x3a;
+        private static final int POP = 0x57;
+        private static final int SWAP = 0x5f;
+        private static final int GOTO = 0xa7;
+        private static final int TABLESWITCH = 0xaa;
+        private static final int ARETURN = 0xb0;
+        private static final int RETURN = 0xb1;
+        private static final int INVOKEVIRTUAL = 0xb6;
+        private static final int INVOKESPECIAL = 0xb7;
+        private static final int INVOKESTATIC = 0xb8;
+        private static final int INVOKEINTERFACE = 0xb9;
+        private static final int ATHROW = 0xbf;
+        private static final int CHECKCAST = 0xc0;
+        private static final int IFNONNULL = 0xc7;
+
+        private static final int SAME_FRAME = 0;
+        private static final int SAME_LOCALS_1_STACK_ITEM_FRAME = 64;
+        private static final int SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED = 247;
+        private static final int SAME_FRAME_EXTENDED = 251;
+        private static final int FULL_FRAME = 255;
+
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final int maxStack;
+        private final int maxLocals;
+        private byte[] code = new byte[64];
+        private int size;
+        private final List<int[]> handlers = new ArrayList<>();
+        //offset followed by the frame without its offset delta
+        private final List<int[]> frames = new ArrayList<>();
+
+        private Code(int access, int name, int descriptor, int maxStack, int maxLocals) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        /**
+         * Current position in the code.
+         *
+         * @return position
+         */
+        public int position() {
+            return size;
+        }
+
+        /**
+         * Load the reference local variable.
+         *
+         * @param local variable index
+         */
+        public void load(int local) {
+            localInstruction(ALOAD, 0x2a, local);
+        }
+
+        /**
+         * Store the reference local variable.
+         *
+         * @param local variable index
+         */
+        public void store(int local) {
+            localInstruction(ASTORE, 0x4b, local);
+        }
+
+        /**
+         * Load the int local variable.
+         *
+         * @param local variable index
+         */
+        public void loadInt(int local) {
+            localInstruction(ILOAD, 0x1a, local);
+        }
+
+        /**
+         * Store the int local variable.
+         *
+         * @param local variable index
+         */
+        public void storeInt(int local) {
+            localInstruction(ISTORE, 0x3b, local);
+        }
+
+        /**
+         * Push the int constant.
+         *
+         * @param value value to push
+         */
+        public void pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                //iconst_<n>
+                writeByte(0x03 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                writeByte(BIPUSH);
+                writeByte(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                writeByte(SIPUSH);
+                writeShort(value);
+            } else {
+                loadConstant(integer(value));
+            }
+        }
+
+        /**
+         * Push null.
+         */
+        public void pushNull() {
+            writeByte(ACONST_NULL);
+        }
+
+        /**
+         * Push the string constant.
+         *
+         * @param value string to push
+         */
+        public void pushString(String value) {
+            loadConstant(string(value));
+        }
+
+        /**
+         * Push the constant, such as the {@link ClassFileWriter#classDataAt(String, int)}.
+         *
+         * @param constant constant index
+         */
+        public void loadConstant(int constant) {
+            writeByte(LDC_W);
+            writeShort(constant);
+        }
+
+        /**
+         * Discard the top of the stack.
+         */
+        public void pop() {
+            writeByte(POP);
+        }
+
+        /**
+         * Swap two values on the top of the stack.
+         */
+        public void swap() {
+            writeByte(SWAP);
+        }
+
+        /**
+         * Cast the top of the stack.
+         *
+         * @param internalName internal name of the type
+         */
+        public void checkCast(String internalName) {
+            writeByte(CHECKCAST);
+            writeShort(classConstant(internalName));
+        }
+
+        /**
+         * Invoke the virtual method.
+         *
+         * @param owner      internal name of the class
+         * @param name       method name
+         * @param descriptor method descriptor
+         */
+        public void invokeVirtual(String owner, String name, String descriptor) {
+            writeByte(INVOKEVIRTUAL);
+            writeShort(methodRef(owner, name, descriptor, false));
+        }
+
+        /**
+         * Invoke the constructor or private method.
+         *
+         * @param owner      internal name of the class
+         * @param name       method name
+         * @param descriptor method descriptor
+         */
+        public void invokeSpecial(String owner, String name, String descriptor) {
+            writeByte(INVOKESPECIAL);
+            writeShort(methodRef(owner, name, descriptor, false));
+        }
+
+        /**
+         * Invoke the static method of a class.
+         *
+         * @param owner      internal name of the class
+         * @param name       method name
+         * @param descriptor method descriptor
+         */
+        public void invokeStatic(String owner, String name, String descriptor) {
+            writeByte(INVOKESTATIC);
+            writeShort(methodRef(owner, name, descriptor, false));
+        }
+
+        /**
+         * Invoke the interface method.
+         *
+         * @param owner      internal name of the interface
+         * @param name       method name
+         * @param descriptor method descriptor
+         */
+        public void invokeInterface(String owner, String name, String descriptor) {
+            writeByte(INVOKEINTERFACE);
+            writeShort(methodRef(owner, name, descriptor, true));
+            writeByte(argumentSlots(descriptor) + 1);
+            writeByte(0);
+        }
+
+        /**
+         * Return the reference from the method.
+         */
+        public void returnValue() {
+            writeByte(ARETURN);
+        }
+
+        /**
+         * Return from the void method.
+         */
+        public void returnVoid() {
+            writeByte(RETURN);
+        }
+
+        /**
+         * Throw the exception on the top of the stack.
+         */
+        public void throwException() {
+            writeByte(ATHROW);
+        }
+
+        /**
+         * Jump if the top of the stack is not null. Target is set by {@link #jumpHere(int)}.
+         *
+         * @return position of the jump
+         */
+        public int ifNonNull() {
+            return jump(IFNONNULL);
+        }
+
+        /**
+         * Jump to the already written position.
+         *
+         * @param target jump target
+         */
+        public void goTo(int target) {
+            int position = size;
+            writeByte(GOTO);
+            writeShort(target - position);
+        }
+
+        /**
+         * Set the target of the jump to the current position.
+         *
+         * @param jump position of the jump
+         */
+        public void jumpHere(int jump) {
+            putShort(jump + 1, size - jump);
+        }
+
+        /**
+         * Jump by the int on the top of the stack to one of the cases. Targets are set by {@link #caseHere(int, int)}.
+         *
+         * @param cases number of the cases starting from zero, at least one
+         * @return position of the switch
+         */
+        public int tableSwitch(int cases) {
+            int position = size;
+            writeByte(TABLESWITCH);
+            while (size % 4 != 0) {
+                writeByte(0);
+            }
+            //default
+            writeInt(0);
+            writeInt(0);
+            writeInt(cases - 1);
+            for (int i = 0; i < cases; i++) {
+                writeInt(0);
+            }
+            return position;
+        }
+
+        /**
+         * Set the target of the switch case to the current position.
+         *
+         * @param tableSwitch position of the switch
+         * @param index       case index, -1 for the default case
+         */
+        public void caseHere(int tableSwitch, int index) {
+            int table = tableSwitch + 4 - tableSwitch % 4;
+            int entry = index < 0 ? table : table + 12 + index * 4;
+            int offset = size - tableSwitch;
+            putShort(entry, offset >> 16);
+            putShort(entry + 2, offset);
+        }
+
+        /**
+         * Handle the exceptions thrown between the given positions by the code at the current position.
+         *
+         * @param start     first handled position
+         * @param end       position after the last handled instruction
+         * @param catchType internal name of the handled exception
+         */
+        public void handlerHere(int start, int end, String catchType) {
+            handlers.add(new int[] {start, end, size, classConstant(catchType)});
+        }
+
+        /**
+         * Frame at the current position with the same locals as the previous frame and an empty stack.
+         */
+        public void sameFrame() {
+            frames.add(new int[] {size, SAME_FRAME});
+        }
+
+        /**
+         * Frame at the current position with the same locals as the previous frame and a single stack item.
+         *
+         * @param stackItem internal name of the stack item type
+         */
+        public void sameLocalsFrame(String stackItem) {
+            int[] type = verificationType(stackItem);
+            frames.add(new int[] {size, SAME_LOCALS_1_STACK_ITEM_FRAME, type[0], type[1]});
+        }
+
+        /**
+         * Frame at the current position with all the locals and stack items.
+         *
+         * @param locals types of the locals, {@code I} for int, internal class name otherwise
+         * @param stack  types of the stack items
+         */
+        public void fullFrame(List<String> locals, List<String> stack) {
+            int[] frame = new int[4 + locals.size() * 2 + stack.size() * 2];
+            frame[0] = size;
+            frame[1] = FULL_FRAME;
+            int index = 2;
+            frame[index++] = locals.size();
+            for (String local : locals) {
+                int[] type = verificationType(local);
+                frame[index++] = type[0];
+                frame[index++] = type[1];
+            }
+            frame[index++] = stack.size();
+            for (String item : stack) {
+                int[] type = verificationType(item);
+                frame[index++] = type[0];
+                frame[index++] = type[1];
+            }
+            frames.add(frame);
+        }
+
+        private int[] verificationType(String type) {
+            return "I".equals(type) ? new int[] {ITEM_INTEGER, -1} : new int[] {ITEM_OBJECT, classConstant(type)};
+        }
+
+        private void localInstruction(int opcode, int shortOpcode, int local) {
+            //<x>load_<n> and <x>store_<n> for the first four locals
+            if (local <= 3) {
+                writeByte(shortOpcode + local);
+            } else {
+                writeByte(opcode);
+                writeByte(local);
+            }
+        }
+
+        private int jump(int opcode) {
+            int position = size;
+            writeByte(opcode);
+            writeShort(0);
+            return position;
+        }
+
+        private void writeByte(int value) {
+            if (size == code.length) {
+                code = Arrays.copyOf(code, size * 2);
+            }
+            code[size++] = (byte) value;
+        }
+
+        private void writeShort(int value) {
+            writeByte(value >> 8);
+            writeByte(value);
+        }
+
+        private void writeInt(int value) {
+            writeShort(value >> 16);
+            writeShort(value);
+        }
+
+        private void putShort(int position, int value) {
+            code[position] = (byte) (value >> 8);
+            code[position + 1] = (byte) value;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            int codeAttribute = utf8("Code");
+            byte[] stackMap = stackMapTable();
+            int stackMapAttribute = stackMap.length == 0 ? 0 : utf8("StackMapTable");
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            int attributesLength = stackMap.length == 0 ? 0 : 6 + stackMap.length;
+            out.writeInt(12 + size + handlers.size() * 8 + attributesLength);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(size);
+            out.write(code, 0, size);
+            out.writeShort(handlers.size());
+            for (int[] handler : handlers) {
+                for (int value : handler) {
+                    out.writeShort(value);
+                }
+            }
+            if (stackMap.length == 0) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(stackMapAttribute);
+                out.writeInt(stackMap.length);
+                out.write(stackMap);
+            }
+        }
+
+        private byte[] stackMapTable() throws IOException {
+            if (frames.isEmpty()) {
+                return new byte[0];
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(frames.size());
+            int previous = -1;
+            for (int[] frame : frames) {
+                //offset of the first frame is absolute, others are relative to the previous frame plus one
+                int delta = frame[0] - previous - 1;
+                previous = frame[0];
+                switch (frame[1]) {
+                case SAME_FRAME:
+                    if (delta < 64) {
+                        out.writeByte(delta);
+                    } else {
+                        out.writeByte(SAME_FRAME_EXTENDED);
+                        out.writeShort(delta);
+                    }
+                    break;
+                case SAME_LOCALS_1_STACK_ITEM_FRAME:
+                    if (delta < 64) {
+                        out.writeByte(SAME_LOCALS_1_STACK_ITEM_FRAME + delta);
+                    } else {
+                        out.writeByte(SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED);
+                        out.writeShort(delta);
+                    }
+                    writeVerificationType(out, frame[2], frame[3]);
+                    break;
+                default:
+                    out.writeByte(FULL_FRAME);
+                    out.writeShort(delta);
+                    int index = 2;
+                    for (int part = 0; part < 2; part++) {
+                        int count = frame[index++];
+                        out.writeShort(count);
+                        for (int i = 0; i < count; i++) {
+                            writeVerificationType(out, frame[index++], frame[index++]);
+                        }
+                    }
+                    break;
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private void writeVerificationType(DataOutputStream out, int item, int classIndex) throws IOException {
+            out.writeByte(item);
+            if (item == ITEM_OBJECT) {
+                out.writeShort(classIndex);
+            }
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+
+        void write(DataOutputStream out) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.ClassFileWriter;
+
+/**
+ * Generator of the object deserializers specialized for a single type.
+ * <br>
+ * Every type gets its own hidden class. Parser events are processed by the {@link PropertyReader}, while deserializer
+ * of every property is a constant of the class with its own call site, so the calls stay monomorphic and JIT is able
+ * to inline the whole deserialization of the type.
+ * <pre>
+ * final class GeneratedObjectDeserializer implements ModelDeserializer {
+ *     public Object deserialize(Object value, DeserializationContextImpl context) {
+ *         JsonParser parser = (JsonParser) value;
+ *         PropertyReader.Cursor cursor = reader.start(parser, context);
+ *         if (cursor == null) {
+ *             return chain.deserialize(parser, context);
+ *         }
+ *         while (true) {
+ *             try {
+ *                 switch (cursor.next(parser, context)) {
+ *                 case 0:
+ *                     firstDeserializer.deserialize(parser, context);
+ *                     continue;
+ *                 case 1:
+ *                     secondDeserializer.deserialize(parser, context);
+ *                     continue;
+ *                 default:
+ *                 }
+ *             } catch (JsonbException e) {
+ *                 throw cursor.propertyError(e);
+ *             }
+ *             return context.getInstance();
+ *         }
+ *     }
+ * }
+ * </pre>
+ */
+final class ObjectDeserializerGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    //code of the larger types could exceed the method size limit, such types are processed by the chain
+    private static final int MAX_PROPERTIES = 1000;
+
+    private static final String CLASS_NAME = "org/eclipse/yasson/internal/deserializer/GeneratedObjectDeserializer";
+    private static final String MODEL_DESERIALIZER = "org/eclipse/yasson/internal/deserializer/ModelDeserializer";
+    private static final String READER = "org/eclipse/yasson/internal/deserializer/PropertyReader";
+    private static final String CURSOR = READER + "$Cursor";
+    private static final String CONTEXT = "org/eclipse/yasson/internal/DeserializationContextImpl";
+    private static final String PARSER = "jakarta/json/stream/JsonParser";
+    private static final String EXCEPTION = "jakarta/json/bind/JsonbException";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String DESERIALIZE_DESCRIPTOR = "(L" + OBJECT + ";L" + CONTEXT + ";)L" + OBJECT + ";";
+
+    private static final int PARSER_LOCAL = 1;
+    private static final int CONTEXT_LOCAL = 2;
+    private static final int CURSOR_LOCAL = 3;
+
+    private ObjectDeserializerGenerator() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Generate deserializer of the object with the given properties.
+     *
+     * @param reader                reader of the object properties
+     * @param propertyDeserializers deserializers of the properties in the matcher slot order
+     * @param chain                 generic deserializer chain of the type
+     * @return generated deserializer or the chain if the deserializer cannot be generated
+     */
+    @SuppressWarnings("unchecked")
+    static ModelDeserializer<JsonParser> generate(PropertyReader reader,
+                                                  List<ModelDeserializer<JsonParser>> propertyDeserializers,
+                                                  ModelDeserializer<JsonParser> chain) {
+        if (propertyDeserializers.size() > MAX_PROPERTIES) {
+            return chain;
+        }
+        List<Object> classData = new ArrayList<>();
+        classData.add(reader);
+        classData.add(chain);
+        classData.addAll(propertyDeserializers);
+        byte[] classBytes = write(propertyDeserializers.size());
+        try {
+            MethodHandles.Lookup lookup = LOOKUP.defineHiddenClassWithClassData(classBytes, List.copyOf(classData), true);
+            return (ModelDeserializer<JsonParser>) lookup.lookupClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException ignored) {
+            //hidden class could not be defined, generic chain is used
+            return chain;
+        }
+    }
+
+    private static byte[] write(int properties) {
+        ClassFileWriter writer = new ClassFileWriter(CLASS_NAME, MODEL_DESERIALIZER);
+        writer.defaultConstructor();
+        ClassFileWriter.Code code = writer.method("deserialize", DESERIALIZE_DESCRIPTOR, 3, CURSOR_LOCAL + 1);
+
+        code.load(PARSER_LOCAL);
+        code.checkCast(PARSER);
+        code.store(PARSER_LOCAL);
+        code.loadConstant(writer.classDataAt("L" + READER + ";", 0));
+        code.load(PARSER_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.invokeVirtual(READER, "start", "(L" + PARSER + ";L" + CONTEXT + ";)L" + CURSOR + ";");
+        code.store(CURSOR_LOCAL);
+        code.load(CURSOR_LOCAL);
+        int started = code.ifNonNull();
+        code.loadConstant(writer.classDataAt("L" + MODEL_DESERIALIZER + ";", 1));
+        code.load(PARSER_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.invokeInterface(MODEL_DESERIALIZER, "deserialize", DESERIALIZE_DESCRIPTOR);
+        code.returnValue();
+
+        code.jumpHere(started);
+        int loop = code.position();
+        code.fullFrame(List.of(CLASS_NAME, PARSER, CONTEXT, CURSOR), List.of());
+        code.load(CURSOR_LOCAL);
+        code.load(PARSER_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.invokeVirtual(CURSOR, "next", "(L" + PARSER + ";L" + CONTEXT + ";)I");
+        if (properties == 0) {
+            //object without properties is only read to its end
+            code.pop();
+            writeEnd(code);
+            return writer.toByteArray();
+        }
+        int tableSwitch = code.tableSwitch(properties);
+        int start = code.position();
+        for (int i = 0; i < properties; i++) {
+            code.caseHere(tableSwitch, i);
+            code.sameFrame();
+            code.loadConstant(writer.classDataAt("L" + MODEL_DESERIALIZER + ";", i + 2));
+            code.load(PARSER_LOCAL);
+            code.load(CONTEXT_LOCAL);
+            code.invokeInterface(MODEL_DESERIALIZER, "deserialize", DESERIALIZE_DESCRIPTOR);
+            code.pop();
+            code.goTo(loop);
+        }
+        int end = code.position();
+        code.caseHere(tableSwitch, -1);
+        code.sameFrame();
+        writeEnd(code);
+
+        code.handlerHere(start, end, EXCEPTION);
+        code.sameLocalsFrame(EXCEPTION);
+        code.load(CURSOR_LOCAL);
+        code.swap();
+        code.invokeVirtual(CURSOR, "propertyError", "(L" + EXCEPTION + ";)L" + EXCEPTION + ";");
+        code.throwException();
+        return writer.toByteArray();
+    }
+
+    private static void writeEnd(ClassFileWriter.Code code) {
+        code.load(CONTEXT_LOCAL);
+        code.invokeVirtual(CONTEXT, "getInstance", "()L" + OBJECT + ";");
+        code.returnValue();
+    }
+
+}
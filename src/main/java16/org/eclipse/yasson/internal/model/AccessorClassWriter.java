@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import org.eclipse.yasson.internal.ClassFileWriter;
+
+/**
+ * Writer of the accessor class files.
+ * <br>
+ * Generated class implements single accessor interface method, which loads the {@link java.lang.invoke.MethodHandle}
+ * stored as the class data of the hidden class and invokes it exactly with the method arguments. Since the handle
+ * is a constant of the generated class, JIT is able to inline the accessed member into the accessor.
+ * <pre>
+ * final class Accessor implements Interface {
+ *     public Accessor() {
+ *         super();
+ *     }
+ *     public Ret method(Object arg1, ...) {
+ *         return ((MethodHandle) classData).invokeExact(arg1, ...);
+ *     }
+ * }
+ * </pre>
+ */
+final class AccessorClassWriter {
+
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+
+    private AccessorClassWriter() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Write the accessor class.
+     *
+     * @param className        internal name of the generated class
+     * @param interfaceName    internal name of the implemented interface
+     * @param methodName       name of the implemented method
+     * @param methodDescriptor descriptor of the implemented method, all parameters have to be of reference type
+     * @return class file bytes
+     */
+    static byte[] write(String className, String interfaceName, String methodName, String methodDescriptor) {
+        ClassFileWriter writer = new ClassFileWriter(className, interfaceName);
+        writer.defaultConstructor();
+        int parameterCount = parameterCount(methodDescriptor);
+        ClassFileWriter.Code code = writer.method(methodName, methodDescriptor, parameterCount + 1, parameterCount + 1);
+        code.loadConstant(writer.classData("L" + METHOD_HANDLE + ";"));
+        for (int i = 1; i <= parameterCount; i++) {
+            code.load(i);
+        }
+        code.invokeVirtual(METHOD_HANDLE, "invokeExact", methodDescriptor);
+        if (methodDescriptor.endsWith(")V")) {
+            code.returnVoid();
+        } else {
+            code.returnValue();
+        }
+        return writer.toByteArray();
+    }
+
+    private static int parameterCount(String methodDescriptor) {
+        int count = 0;
+        int i = 1;
+        while (methodDescriptor.charAt(i) != ')') {
+            if (methodDescriptor.charAt(i) != 'L') {
+                throw new IllegalArgumentException("Only reference parameters are supported: " + methodDescriptor);
+            }
+            i = methodDescriptor.indexOf(';', i) + 1;
+            count++;
+        }
+        return count;
+    }
+
+}
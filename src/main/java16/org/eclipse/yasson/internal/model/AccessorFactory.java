@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.yasson.internal.ReflectionUtils;
+
+/**
+ * Factory of the property accessors and instance suppliers.
+ * <br>
+ * Every accessor is a hidden class holding the property or constructor handle as its class data, so the call through it
+ * can be inlined. Hidden classes are unloaded together with the accessor instance. If the hidden class cannot
+ * be defined, accessor delegating to the {@link MethodHandle} is used instead.
+ */
+final class AccessorFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_METHOD = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_METHOD = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType SUPPLIER_METHOD = MethodType.methodType(Object.class);
+
+    private static final byte[] GETTER_CLASS = AccessorClassWriter.write("org/eclipse/yasson/internal/model/GeneratedValueGetter",
+                                                                         "org/eclipse/yasson/internal/model/ValueGetter",
+                                                                         "getValue",
+                                                                         GETTER_METHOD.toMethodDescriptorString());
+    private static final byte[] SETTER_CLASS = AccessorClassWriter.write("org/eclipse/yasson/internal/model/GeneratedValueSetter",
+                                                                         "org/eclipse/yasson/internal/model/ValueSetter",
+                                                                         "setValue",
+                                                                         SETTER_METHOD.toMethodDescriptorString());
+    private static final byte[] SUPPLIER_CLASS =
+            AccessorClassWriter.write("org/eclipse/yasson/internal/model/GeneratedInstanceSupplier",
+                                      "org/eclipse/yasson/internal/model/InstanceSupplier",
+                                      "newInstance",
+                                      SUPPLIER_METHOD.toMethodDescriptorString());
+
+    private AccessorFactory() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Create getter accessor invoking the given handle.
+     *
+     * @param handle handle reading the property value
+     * @return getter accessor
+     */
+    static ValueGetter createGetter(MethodHandle handle) {
+        try {
+            return (ValueGetter) defineAccessor(GETTER_CLASS, handle.asType(GETTER_METHOD));
+        } catch (ReflectiveOperationException ignored) {
+            //hidden class could not be defined, method handle is used
+            return instance -> handle.invoke(instance);
+        }
+    }
+
+    /**
+     * Create setter accessor invoking the given handle.
+     *
+     * @param handle handle writing the property value
+     * @return setter accessor
+     */
+    static ValueSetter createSetter(MethodHandle handle) {
+        try {
+            return (ValueSetter) defineAccessor(SETTER_CLASS, handle.asType(SETTER_METHOD));
+        } catch (ReflectiveOperationException ignored) {
+            //hidden class could not be defined, method handle is used
+            return (instance, value) -> handle.invoke(instance, value);
+        }
+    }
+
+    /**
+     * Create instance supplier invoking the given default constructor.
+     *
+     * @param constructor default constructor
+     * @return instance supplier
+     */
+    static InstanceSupplier createInstanceSupplier(Constructor<?> constructor) {
+        MethodHandle handle = constructorHandle(constructor);
+        if (handle == null) {
+            //constructor cannot be invoked by the handle, reflection reports the failure when used
+            return () -> ReflectionUtils.createNoArgConstructorInstance(constructor);
+        }
+        try {
+            return (InstanceSupplier) defineAccessor(SUPPLIER_CLASS, handle.asType(SUPPLIER_METHOD));
+        } catch (ReflectiveOperationException ignored) {
+            //hidden class could not be defined, method handle is used
+            return () -> handle.invoke();
+        }
+    }
+
+    private static MethodHandle constructorHandle(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object defineAccessor(byte[] accessorClass, MethodHandle handle) throws ReflectiveOperationException {
+        MethodHandles.Lookup accessorLookup = LOOKUP.defineHiddenClassWithClassData(accessorClass, handle, true);
+        return accessorLookup.lookupClass().getConstructor().newInstance();
+    }
+
+}
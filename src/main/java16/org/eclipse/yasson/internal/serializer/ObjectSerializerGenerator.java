@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.yasson.internal.ClassFileWriter;
+
+/**
+ * Generator of the object serializers specialized for a single type.
+ * <br>
+ * Every type gets its own hidden class, which serializes the properties by straight-line code. Serializer of every
+ * property is a constant of the class with its own call site, so the calls stay monomorphic and JIT is able to inline
+ * the whole serialization of the type.
+ * <pre>
+ * final class GeneratedObjectSerializer implements ModelSerializer {
+ *     public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+ *         if (value == null) {
+ *             chain.serialize(null, generator, context);
+ *             return;
+ *         }
+ *         boolean previousNulls = GeneratedSerializerSupport.startObject(value, generator, context);
+ *         String name = "first";
+ *         try {
+ *             context.setKey(name);
+ *             firstSerializer.serialize(value, generator, context);
+ *             name = "second";
+ *             context.setKey(name);
+ *             secondSerializer.serialize(value, generator, context);
+ *         } catch (Exception e) {
+ *             throw GeneratedSerializerSupport.propertyError(e, name, value, context);
+ *         }
+ *         GeneratedSerializerSupport.endObject(value, generator, context, previousNulls);
+ *     }
+ * }
+ * </pre>
+ */
+final class ObjectSerializerGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    //code of the larger types could exceed the method size limit, such types are processed by the chain
+    private static final int MAX_PROPERTIES = 1000;
+
+    private static final String CLASS_NAME = "org/eclipse/yasson/internal/serializer/GeneratedObjectSerializer";
+    private static final String MODEL_SERIALIZER = "org/eclipse/yasson/internal/serializer/ModelSerializer";
+    private static final String SUPPORT = "org/eclipse/yasson/internal/serializer/GeneratedSerializerSupport";
+    private static final String CONTEXT = "org/eclipse/yasson/internal/SerializationContextImpl";
+    private static final String GENERATOR = "jakarta/json/stream/JsonGenerator";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String SERIALIZE_DESCRIPTOR = "(L" + OBJECT + ";L" + GENERATOR + ";L" + CONTEXT + ";)V";
+
+    private static final int VALUE = 1;
+    private static final int GENERATOR_LOCAL = 2;
+    private static final int CONTEXT_LOCAL = 3;
+    private static final int PREVIOUS_NULLS = 4;
+    private static final int NAME = 5;
+
+    private ObjectSerializerGenerator() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Generate serializer of the object with the given properties.
+     *
+     * @param propertySerializers serializers of the properties by the property name, in the serialization order
+     * @param chain               generic serializer chain of the type, used to process null values
+     * @return generated serializer or the chain if the serializer cannot be generated
+     */
+    static ModelSerializer generate(Map<String, ModelSerializer> propertySerializers, ModelSerializer chain) {
+        if (propertySerializers.size() > MAX_PROPERTIES) {
+            return chain;
+        }
+        List<Object> classData = new ArrayList<>();
+        classData.add(chain);
+        classData.addAll(propertySerializers.values());
+        byte[] classBytes = write(new ArrayList<>(propertySerializers.keySet()));
+        try {
+            MethodHandles.Lookup lookup = LOOKUP.defineHiddenClassWithClassData(classBytes, List.copyOf(classData), true);
+            return (ModelSerializer) lookup.lookupClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException ignored) {
+            //hidden class could not be defined, generic chain is used
+            return chain;
+        }
+    }
+
+    private static byte[] write(List<String> propertyNames) {
+        ClassFileWriter writer = new ClassFileWriter(CLASS_NAME, MODEL_SERIALIZER);
+        writer.defaultConstructor();
+        ClassFileWriter.Code code = writer.method("serialize", SERIALIZE_DESCRIPTOR, 4, NAME + 1);
+        int serializerType = 0;
+
+        code.load(VALUE);
+        int nonNull = code.ifNonNull();
+        code.loadConstant(writer.classDataAt("L" + MODEL_SERIALIZER + ";", serializerType++));
+        code.pushNull();
+        code.load(GENERATOR_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.invokeInterface(MODEL_SERIALIZER, "serialize", SERIALIZE_DESCRIPTOR);
+        code.returnVoid();
+
+        code.jumpHere(nonNull);
+        code.sameFrame();
+        code.load(VALUE);
+        code.load(GENERATOR_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.invokeStatic(SUPPORT, "startObject", "(L" + OBJECT + ";L" + GENERATOR + ";L" + CONTEXT + ";)Z");
+        code.storeInt(PREVIOUS_NULLS);
+
+        int start = -1;
+        for (String propertyName : propertyNames) {
+            code.pushString(propertyName);
+            code.store(NAME);
+            if (start < 0) {
+                //name of the failed property is always set within the handled code
+                start = code.position();
+            }
+            code.load(CONTEXT_LOCAL);
+            code.load(NAME);
+            code.invokeVirtual(CONTEXT, "setKey", "(L" + STRING + ";)V");
+            code.loadConstant(writer.classDataAt("L" + MODEL_SERIALIZER + ";", serializerType++));
+            code.load(VALUE);
+            code.load(GENERATOR_LOCAL);
+            code.load(CONTEXT_LOCAL);
+            code.invokeInterface(MODEL_SERIALIZER, "serialize", SERIALIZE_DESCRIPTOR);
+        }
+        int end = code.position();
+
+        code.load(VALUE);
+        code.load(GENERATOR_LOCAL);
+        code.load(CONTEXT_LOCAL);
+        code.loadInt(PREVIOUS_NULLS);
+        code.invokeStatic(SUPPORT, "endObject", "(L" + OBJECT + ";L" + GENERATOR + ";L" + CONTEXT + ";Z)V");
+        code.returnVoid();
+
+        if (start >= 0) {
+            code.handlerHere(start, end, "java/lang/Exception");
+            code.fullFrame(List.of(CLASS_NAME, OBJECT, GENERATOR, CONTEXT, "I", STRING), List.of("java/lang/Exception"));
+            code.load(NAME);
+            code.load(VALUE);
+            code.load(CONTEXT_LOCAL);
+            code.invokeStatic(SUPPORT, "propertyError", "(Ljava/lang/Exception;L" + STRING + ";L" + OBJECT + ";L" + CONTEXT
+                    + ";)Ljakarta/json/bind/JsonbException;");
+            code.throwException();
+        }
+        return writer.toByteArray();
+    }
+
+}
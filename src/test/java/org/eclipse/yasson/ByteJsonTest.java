@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the byte array and {@link ByteBuffer} based methods of {@link YassonJsonb}.
+ */
+public class ByteJsonTest {
+
+    private static final String JSON = "{\"name\":\"Žluťoučký kůň\",\"value\":5}";
+
+    private static final Type LIST_TYPE = new TestTypeToken<List<Pojo>>() { }.getType();
+
+    public static class Pojo {
+        public String name;
+        public int value;
+    }
+
+    private static Pojo pojo() {
+        Pojo pojo = new Pojo();
+        pojo.name = "Žluťoučký kůň";
+        pojo.value = 5;
+        return pojo;
+    }
+
+    @Test
+    public void testToJsonBytes() {
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), yassonJsonb.toJsonBytes(pojo()));
+        assertArrayEquals(("[" + JSON + "]").getBytes(StandardCharsets.UTF_8), yassonJsonb.toJsonBytes(List.of(pojo()), LIST_TYPE));
+    }
+
+    @Test
+    public void testFromJsonBytes() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        Pojo pojo = yassonJsonb.fromJson(bytes, Pojo.class);
+        assertEquals("Žluťoučký kůň", pojo.name);
+        assertEquals(5, pojo.value);
+
+        byte[] padded = ("xx[" + JSON + "]yy").getBytes(StandardCharsets.UTF_8);
+        List<Pojo> pojos = yassonJsonb.fromJson(padded, 2, padded.length - 4, LIST_TYPE);
+        assertEquals(1, pojos.size());
+        assertEquals("Žluťoučký kůň", pojos.get(0).name);
+    }
+
+    @Test
+    public void testByteBuffer() {
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(128), ByteBuffer.allocateDirect(128))) {
+            buffer.put((byte) ' ');
+            yassonJsonb.toJson(pojo(), buffer);
+            assertEquals(JSON.getBytes(StandardCharsets.UTF_8).length + 1, buffer.position());
+            buffer.flip();
+            buffer.get();
+            Pojo pojo = yassonJsonb.fromJson(buffer, Pojo.class);
+            assertEquals("Žluťoučký kůň", pojo.name);
+            assertEquals(5, pojo.value);
+            assertEquals(buffer.limit(), buffer.position());
+        }
+    }
+
+    @Test
+    public void testByteBufferOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.put((byte) ' ');
+        assertThrows(JsonbException.class, () -> yassonJsonb.toJson(pojo(), buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void testByteBufferInvalidJson() {
+        byte[] invalid = "{\"name\":".getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16))) {
+            buffer.put(invalid).flip();
+            assertThrows(JsonbException.class, () -> yassonJsonb.fromJson(buffer, Pojo.class));
+            assertEquals(0, buffer.position());
+            assertEquals(invalid.length, buffer.remaining());
+        }
+    }
+
+    @Test
+    public void testToJsonBytesAllCharacterLengths() {
+        Pojo pojo = new Pojo();
+        pojo.name = "a\u00e9\u20ac\ud83d\ude00\ud83d-\ude00";
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        yassonJsonb.toJson(pojo, stream);
+        byte[] bytes = yassonJsonb.toJsonBytes(pojo);
+        assertArrayEquals(stream.toByteArray(), bytes);
+        assertArrayEquals(yassonJsonb.toJson(pojo).getBytes(StandardCharsets.UTF_8), bytes);
+    }
+
+    @Test
+    public void testConfiguredEncoding() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"))) {
+            byte[] bytes = jsonb.toJsonBytes(pojo());
+            assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_16), bytes);
+            assertEquals("Žluťoučký kůň", jsonb.fromJson(bytes, Pojo.class).name);
+        }
+    }
+
+}
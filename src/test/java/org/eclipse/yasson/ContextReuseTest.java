@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbTypeDeserializer;
+import jakarta.json.bind.annotation.JsonbTypeSerializer;
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbDeserializer;
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the serialization and deserialization contexts reused by the {@link Jsonb} instance.
+ */
+public class ContextReuseTest {
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    public static class Node {
+        public String name;
+        public List<Node> children = new ArrayList<>();
+        public Map<String, Integer> values;
+        public int[] numbers;
+    }
+
+    public static class Wrapper {
+        @JsonbTypeSerializer(InnerSerializer.class)
+        @JsonbTypeDeserializer(InnerDeserializer.class)
+        public Node inner;
+    }
+
+    public static class InnerSerializer implements JsonbSerializer<Node> {
+        @Override
+        public void serialize(Node obj, JsonGenerator generator, SerializationContext ctx) {
+            //nested serialization by the same Jsonb instance must not interfere with the outer one
+            generator.write(JSONB.toJson(obj));
+        }
+    }
+
+    public static class InnerDeserializer implements JsonbDeserializer<Node> {
+        @Override
+        public Node deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            return JSONB.fromJson(parser.getString(), Node.class);
+        }
+    }
+
+    private static Node tree(int index) {
+        Node root = new Node();
+        root.name = "root" + index;
+        root.values = Map.of("v", index);
+        root.numbers = new int[] {index, index + 1};
+        for (int i = 0; i < 3; i++) {
+            Node child = new Node();
+            child.name = "child" + i;
+            child.numbers = new int[] {i};
+            root.children.add(child);
+        }
+        return root;
+    }
+
+    private static void assertTree(Node expected, Node actual) {
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.values, actual.values);
+        assertEquals(expected.numbers.length, actual.numbers.length);
+        assertEquals(expected.children.size(), actual.children.size());
+        for (int i = 0; i < expected.children.size(); i++) {
+            assertTree(expected.children.get(i), actual.children.get(i));
+        }
+    }
+
+    @Test
+    public void testRepeatedRoundTrips() {
+        for (int i = 0; i < 20; i++) {
+            Node node = tree(i);
+            String json = JSONB.toJson(node);
+            assertTree(node, JSONB.fromJson(json, Node.class));
+        }
+    }
+
+    @Test
+    public void testReentrantCalls() {
+        Wrapper wrapper = new Wrapper();
+        wrapper.inner = tree(1);
+        String json = JSONB.toJson(wrapper);
+        assertTree(wrapper.inner, JSONB.fromJson(json, Wrapper.class).inner);
+    }
+
+    @Test
+    public void testReuseAfterFailure() {
+        assertThrows(JsonbException.class, () -> JSONB.fromJson("{\"children\":[{\"numbers\":[\"x\"]}]}", Node.class));
+        Node node = tree(2);
+        assertTree(node, JSONB.fromJson(JSONB.toJson(node), Node.class));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        Node node = tree(index * j);
+                        assertTree(node, JSONB.fromJson(JSONB.toJson(node), Node.class));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
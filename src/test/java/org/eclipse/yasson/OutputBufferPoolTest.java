@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the output buffers pooled by the {@link YassonJsonb} instance.
+ */
+public class OutputBufferPoolTest {
+
+    @Test
+    public void testBuffersReused() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withOutputBufferPoolSize(3))) {
+            OutputBufferStatistics statistics = jsonb.getOutputBufferStatistics();
+            assertEquals(4, statistics.getPoolSize());
+            assertEquals(0, statistics.getPooledBuffers());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("[\"" + i + "\"]", jsonb.toJson(List.of(String.valueOf(i))));
+            }
+            assertEquals(1, statistics.getPooledBuffers());
+            assertEquals(1, statistics.getMisses());
+            assertEquals(9, statistics.getHits());
+            assertEquals(0.9, statistics.getHitRate(), 0.0001);
+        }
+    }
+
+    @Test
+    public void testLargeOutputAfterSmall() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            assertEquals("[1]", jsonb.toJson(List.of(1)));
+            List<Integer> large = new ArrayList<>(Collections.nCopies(10_000, 123));
+            String json = jsonb.toJson(large);
+            assertEquals(1 + 10_000 * 4, json.length());
+            assertEquals("[1,2]", jsonb.toJson(List.of(1, 2)));
+            assertEquals("null", jsonb.toJson(null));
+        }
+    }
+
+    @Test
+    public void testSmallOutputsAfterHugeOutput() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withOutputBufferPoolSize(1))) {
+            List<Integer> huge = new ArrayList<>(Collections.nCopies(300_000, 1234));
+            assertEquals(1 + 300_000 * 5, jsonb.toJson(huge).length());
+            OutputBufferStatistics statistics = jsonb.getOutputBufferStatistics();
+            long misses = statistics.getMisses();
+            for (int i = 0; i < 10; i++) {
+                assertEquals("[1]", jsonb.toJson(new ArrayList<>(List.of(1))));
+            }
+            //buffer sized by the capped estimate is retained and reused by the following calls
+            assertEquals(1, statistics.getPooledBuffers());
+            assertTrue(statistics.getMisses() <= misses + 1);
+        }
+    }
+
+    @Test
+    public void testBufferReleasedOnFailure() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withOutputBufferPoolSize(1))) {
+            assertThrows(JsonbException.class, () -> jsonb.toJson(new FailingPojo()));
+            OutputBufferStatistics statistics = jsonb.getOutputBufferStatistics();
+            assertEquals(1, statistics.getPooledBuffers());
+            assertEquals("[1]", jsonb.toJson(List.of(1)));
+            assertEquals(1, statistics.getHits());
+        }
+    }
+
+    @Test
+    public void testPoolingDisabled() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withOutputBufferPoolSize(0))) {
+            assertEquals("[1]", jsonb.toJson(List.of(1)));
+            assertEquals("[1]", jsonb.toJson(List.of(1)));
+            OutputBufferStatistics statistics = jsonb.getOutputBufferStatistics();
+            assertEquals(0, statistics.getPoolSize());
+            assertEquals(0, statistics.getHits());
+            assertEquals(2, statistics.getMisses());
+        }
+    }
+
+    @Test
+    public void testConcurrentSerialization() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withOutputBufferPoolSize(2))) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                List<Integer> value = Collections.nCopies(i, i);
+                results.add(executor.submit(() -> jsonb.toJson(value).equals(expected(value))));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+            assertEquals(200, jsonb.getOutputBufferStatistics().getHits() + jsonb.getOutputBufferStatistics().getMisses());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class FailingPojo {
+
+        public String getValue() {
+            throw new IllegalStateException("failing");
+        }
+
+    }
+
+    private static String expected(List<Integer> values) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            builder.append(i == 0 ? "" : ",").append(values.get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+}
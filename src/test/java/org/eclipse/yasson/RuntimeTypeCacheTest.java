@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.json.bind.JsonbBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the inline cache of the serializers resolved from the runtime class of the value.
+ */
+public class RuntimeTypeCacheTest {
+
+    public static class Holder {
+        public Object value;
+
+        public Holder() {
+        }
+
+        Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static RuntimeTypeCacheStatistics statistics(YassonJsonb jsonb, Class<?> observed) {
+        return jsonb.getRuntimeTypeCacheStatistics().stream()
+                .filter(stats -> stats.getObservedTypes().contains(observed))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void testMonomorphicValues() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            List<Holder> holders = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                holders.add(new Holder(i));
+            }
+            assertEquals("[{\"value\":0},{\"value\":1}]", jsonb.toJson(holders.subList(0, 2)));
+            jsonb.toJson(holders);
+            RuntimeTypeCacheStatistics statistics = statistics(jsonb, Integer.class);
+            assertEquals(Set.of(Integer.class), statistics.getObservedTypes());
+            assertEquals(1, statistics.getMisses());
+            assertEquals(11, statistics.getHits());
+        }
+    }
+
+    @Test
+    public void testPolymorphicValues() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            List<Holder> bimorphic = List.of(new Holder(1), new Holder("a"), new Holder(2), new Holder("b"));
+            assertEquals("[{\"value\":1},{\"value\":\"a\"},{\"value\":2},{\"value\":\"b\"}]", jsonb.toJson(bimorphic));
+            RuntimeTypeCacheStatistics statistics = statistics(jsonb, Integer.class);
+            assertEquals(2, statistics.getMisses());
+            assertEquals(2, statistics.getHits());
+
+            List<Holder> megamorphic = List.of(new Holder(1), new Holder("a"), new Holder(BigDecimal.ONE), new Holder(2));
+            assertEquals("[{\"value\":1},{\"value\":\"a\"},{\"value\":1},{\"value\":2}]", jsonb.toJson(megamorphic));
+            assertEquals(Set.of(Integer.class, String.class, BigDecimal.class), statistics.getObservedTypes());
+            assertEquals(4, statistics.getMisses());
+            assertEquals(4, statistics.getHits());
+            assertEquals(0.5, statistics.getHitRate(), 0.0001);
+        }
+    }
+
+}
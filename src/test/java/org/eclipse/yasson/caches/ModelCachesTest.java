@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.caches;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.YassonConfig;
+import org.eclipse.yasson.YassonJsonb;
+import org.eclipse.yasson.caches.model.Unloadable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the class models, serializers and deserializers cached by the {@link YassonJsonb} instance.
+ */
+public class ModelCachesTest {
+
+    private static final String UNLOADABLE_JSON = "{\"name\":\"unloadable\",\"values\":[\"a\"]}";
+
+    public static class Pojo {
+        public String value;
+    }
+
+    @Test
+    public void testEvict() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            Pojo pojo = new Pojo();
+            pojo.value = "a";
+            assertEquals("{\"value\":\"a\"}", jsonb.toJson(pojo));
+            jsonb.evict(Pojo.class);
+            assertEquals("{\"value\":\"a\"}", jsonb.toJson(pojo));
+            assertEquals("b", jsonb.fromJson("{\"value\":\"b\"}", Pojo.class).value);
+        }
+    }
+
+    @Test
+    public void testClearCaches() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            Pojo pojo = new Pojo();
+            pojo.value = "a";
+            assertEquals("[{\"value\":\"a\"}]", jsonb.toJson(List.of(pojo)));
+            jsonb.clearCaches();
+            assertEquals("[{\"value\":\"a\"}]", jsonb.toJson(List.of(pojo)));
+            assertEquals(0, jsonb.getRuntimeTypeCacheStatistics().stream().mapToLong(stats -> stats.getHits()).sum());
+        }
+    }
+
+    @Test
+    public void testSmallTypeCache() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withTypeCacheSize(1))) {
+            Pojo pojo = new Pojo();
+            pojo.value = "a";
+            for (int i = 0; i < 3; i++) {
+                assertEquals("[{\"value\":\"a\"}]", jsonb.toJson(List.of(pojo), new TestTypeToken<List<Pojo>>() { }.getType()));
+                assertEquals("[\"a\"]", jsonb.toJson(List.of("a"), new TestTypeToken<List<String>>() { }.getType()));
+                assertEquals("a", jsonb.<List<Pojo>>fromJson("[{\"value\":\"a\"}]",
+                                                            new TestTypeToken<List<Pojo>>() { }.getType()).get(0).value);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidTypeCacheSize() {
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new YassonConfig().withTypeCacheSize(0)));
+    }
+
+    @Test
+    public void testClassUnloaded() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            WeakReference<ClassLoader> classLoader = useUnloadableClass(jsonb);
+            for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+                System.gc();
+                Thread.sleep(20);
+            }
+            assertNull(classLoader.get());
+        }
+    }
+
+    private static WeakReference<ClassLoader> useUnloadableClass(YassonJsonb jsonb) throws Exception {
+        ClassLoader classLoader = new ChildFirstClassLoader(Unloadable.class.getName());
+        Class<?> unloadable = classLoader.loadClass(Unloadable.class.getName());
+        Object instance = unloadable.getConstructor().newInstance();
+        assertEquals(UNLOADABLE_JSON, jsonb.toJson(instance));
+        assertEquals(unloadable, jsonb.fromJson(UNLOADABLE_JSON, unloadable).getClass());
+        return new WeakReference<>(classLoader);
+    }
+
+    private static final class ChildFirstClassLoader extends ClassLoader {
+
+        private final String className;
+
+        private ChildFirstClassLoader(String className) {
+            super(ModelCachesTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = stream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,7 @@
 
 package org.eclipse.yasson.customization;
 
+import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Set;
@@ -36,7 +37,9 @@ import static org.eclipse.yasson.Jsonbs.defaultJsonb;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -163,6 +166,21 @@ public class JsonbCreatorTest {
         assertEquals("name1", persons.hiddenPersons.iterator().next().getName());
     }
 
+    @Test
+    public void testCreatorExceptionReportedAsInvocationTarget() {
+        JsonbException exception = assertThrows(JsonbException.class,
+                                                () -> defaultJsonb.fromJson("{\"value\":\"a\"}", FailingCreator.class));
+        InvocationTargetException cause = assertInstanceOf(InvocationTargetException.class, exception.getCause());
+        assertSame(FailingCreator.FAILURE, cause.getTargetException());
+    }
+
+    @Test
+    public void testCreatorErrorNotWrapped() {
+        CreatorError error = assertThrows(CreatorError.class,
+                                          () -> defaultJsonb.fromJson("{\"value\":\"a\"}", ErrorCreator.class));
+        assertSame(ErrorCreator.ERROR, error);
+    }
+
     public static final class Persons {
 
         Set<Person> hiddenPersons;
@@ -247,5 +265,32 @@ public class JsonbCreatorTest {
 
     }
 
+    public static final class FailingCreator {
+
+        static final IllegalStateException FAILURE = new IllegalStateException("failure");
+
+        @JsonbCreator
+        public FailingCreator(@JsonbProperty("value") String value) {
+            throw FAILURE;
+        }
+
+    }
+
+    public static final class ErrorCreator {
+
+        static final CreatorError ERROR = new CreatorError();
+
+        @JsonbCreator
+        public ErrorCreator(@JsonbProperty("value") String value) {
+            throw ERROR;
+        }
+
+    }
+
+    public static final class CreatorError extends Error {
+
+        private static final long serialVersionUID = 1L;
+
+    }
 
 }
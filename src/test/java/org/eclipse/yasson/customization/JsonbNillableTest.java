@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,10 +12,13 @@
 
 package org.eclipse.yasson.customization;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.*;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.annotation.JsonbNillable;
 import jakarta.json.bind.annotation.JsonbProperty;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,4 +108,22 @@ public class JsonbNillableTest {
         PrimitiveNullBoolean deserialized = jsonb.fromJson(input, PrimitiveNullBoolean.class);
         assertNull(deserialized.someBoolean);
     }
+
+    @JsonbNillable
+    public static class NillableSimpleValues {
+        public String string;
+        public Integer integer;
+        @JsonbProperty(nillable = false)
+        public Long notNillable;
+        public BigDecimal decimal = BigDecimal.TEN;
+        public Boolean bool = Boolean.TRUE;
+    }
+
+    @Test
+    public void testNillableSimpleValues() {
+        assertEquals("{\"bool\":true,\"decimal\":10,\"integer\":null,\"string\":null}",
+                     defaultJsonb.toJson(new NillableSimpleValues()));
+        assertEquals("{\"bool\":true,\"decimal\":10,\"integer\":null,\"string\":null}",
+                     nullableJsonb.toJson(new NillableSimpleValues()));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,10 +12,12 @@
 
 package org.eclipse.yasson.customization;
 
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.serializer.JsonbSerializer;
 import jakarta.json.bind.serializer.SerializationContext;
 import jakarta.json.stream.JsonGenerator;
@@ -23,6 +25,9 @@ import org.eclipse.yasson.YassonConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for Yasson specific config properties.
@@ -50,6 +55,51 @@ public class YassonSpecificConfigTests {
         assertEquals("[null]", jsonb.toJson(new String[] {null}));
     }
 
+    @Test
+    public void codegenRoundTripTest() {
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withCodegen(true));
+        Node node = new Node();
+        node.name = "root";
+        node.value = 1;
+        node.child = new Node();
+        node.child.name = "child";
+        node.child.value = 2;
+        node.children = List.of(new Node());
+        String json = jsonb.toJson(node);
+        assertEquals("{\"child\":{\"name\":\"child\",\"value\":2},\"children\":[{\"value\":0}],\"name\":\"root\",\"value\":1}", json);
+
+        Node deserialized = jsonb.fromJson("{\"unknown\":{\"a\":[1]},\"value\":1,\"child\":{\"name\":\"child\",\"value\":2},"
+                                                   + "\"children\":[{\"value\":3},null],\"name\":\"root\"}", Node.class);
+        assertEquals("root", deserialized.name);
+        assertEquals(1, deserialized.value);
+        assertEquals("child", deserialized.child.name);
+        assertEquals(2, deserialized.child.value);
+        assertNull(deserialized.child.child);
+        assertEquals(3, deserialized.children.get(0).value);
+        assertNull(deserialized.children.get(1));
+        assertNull(jsonb.fromJson("null", Node.class));
+    }
+
+    @Test
+    public void codegenErrorsTest() {
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withCodegen(true).withFailOnUnknownProperties(true));
+        assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"unknown\":1}", Node.class));
+        assertThrows(JsonbException.class, () -> jsonb.fromJson("[]", Node.class));
+        JsonbException exception = assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"value\":\"a\"}", Node.class));
+        assertTrue(exception.getMessage().startsWith("Unable to deserialize property 'value' because of: "));
+
+        Node node = new Node();
+        node.child = node;
+        assertThrows(JsonbException.class, () -> jsonb.toJson(node));
+    }
+
+    public static final class Node {
+        public String name;
+        public int value;
+        public Node child;
+        public List<Node> children;
+    }
+
     private static final class RootNullSerializer implements JsonbSerializer<Object> {
 
         @Override
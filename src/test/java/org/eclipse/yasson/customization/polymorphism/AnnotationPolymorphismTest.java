@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@ package org.eclipse.yasson.customization.polymorphism;
 
 import java.time.LocalDate;
 
+import jakarta.json.JsonObject;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.annotation.JsonbCreator;
 import jakarta.json.bind.annotation.JsonbDateFormat;
@@ -101,6 +102,63 @@ public class AnnotationPolymorphismTest {
         assertThat(deserialized[2], instanceOf(Dog.class));
     }
 
+    @Test
+    public void testTypeInfoNotFirstDeserialization() {
+        Animal dog = Jsonbs.defaultJsonb.fromJson("{\"isDog\":false,\"@type\":\"dog\"}", Animal.class);
+        assertThat(dog, instanceOf(Dog.class));
+        assertThat(((Dog) dog).isDog, is(false));
+    }
+
+    @Test
+    public void testTypeInfoAfterStructuresDeserialization() {
+        String json = "{\"name\":\"truck\",\"wheels\":[1,2,{\"x\":[]}],\"owner\":{\"name\":\"Bob\",\"age\":42},"
+                + "\"extra\":{\"a\":[true,null,1.5]},\"@vehicle\":\"car\",\"doors\":5}";
+        Vehicle vehicle = Jsonbs.defaultJsonb.fromJson(json, Vehicle.class);
+        assertThat(vehicle, instanceOf(Car.class));
+        Car car = (Car) vehicle;
+        assertThat(car.name, is("truck"));
+        assertThat(car.doors, is(5));
+        assertThat(car.owner.name, is("Bob"));
+        assertThat(car.owner.age, is(42));
+        assertThat(car.extra.toString(), is("{\"a\":[true,null,1.5]}"));
+    }
+
+    @Test
+    public void testTypeInfoMissingDeserialization() {
+        Vehicle vehicle = Jsonbs.defaultJsonb.fromJson("{\"name\":\"bike\",\"owner\":{\"name\":\"Ann\"}}", Bicycle.class);
+        assertThat(((Bicycle) vehicle).name, is("bike"));
+    }
+
+    @JsonbTypeInfo(key = "@vehicle", value = {
+            @JsonbSubtype(alias = "car", type = Car.class),
+            @JsonbSubtype(alias = "bicycle", type = Bicycle.class)
+    })
+    public interface Vehicle {
+
+    }
+
+    public static class Car implements Vehicle {
+
+        public String name;
+        public int doors;
+        public Owner owner;
+        public JsonObject extra;
+
+    }
+
+    public static class Bicycle implements Vehicle {
+
+        public String name;
+
+    }
+
+    public static class Owner {
+
+        public String name;
+        public int age;
+
+    }
+
     @JsonbTypeInfo({
             @JsonbSubtype(alias = "dog", type = Dog.class),
             @JsonbSubtype(alias = "cat", type = Cat.class)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -239,4 +239,97 @@ public class NumberTest {
         shouldFail(() -> defaultJsonb.toJson(obj),
                   msg -> msg.contains("mapProp") && msg.contains("NumberContainer"));
     }
+
+    public static class PrimitiveContainer {
+        public int intProp;
+        public long longProp;
+        public double doubleProp;
+        public boolean booleanProp;
+        private int accessorProp;
+
+        public int getAccessorProp() {
+            return accessorProp;
+        }
+
+        public void setAccessorProp(int accessorProp) {
+            this.accessorProp = accessorProp;
+        }
+    }
+
+    @Test
+    public void testPrimitiveProperties() {
+        PrimitiveContainer container = new PrimitiveContainer();
+        container.intProp = Integer.MIN_VALUE;
+        container.longProp = Long.MAX_VALUE;
+        container.doubleProp = 0.1;
+        container.booleanProp = true;
+        container.setAccessorProp(42);
+        String expected = "{\"accessorProp\":42,\"booleanProp\":true,\"doubleProp\":0.1,"
+                + "\"intProp\":-2147483648,\"longProp\":9223372036854775807}";
+        assertEquals(expected, defaultJsonb.toJson(container));
+
+        PrimitiveContainer result = defaultJsonb.fromJson(expected, PrimitiveContainer.class);
+        assertEquals(Integer.MIN_VALUE, result.intProp);
+        assertEquals(Long.MAX_VALUE, result.longProp);
+        assertEquals(0.1, result.doubleProp);
+        assertTrue(result.booleanProp);
+        assertEquals(42, result.getAccessorProp());
+    }
+
+    @Test
+    public void testSerializeDoubleNotations() {
+        double[] values = {0.1, -2.5, 1.0E10, 1.0E-5, 4.9E-324, Double.MAX_VALUE, 123456.789, -0.0};
+        String expected = "[0.1,-2.5,1.0E10,1.0E-5,4.9E-324,1.7976931348623157E308,123456.789,-0.0]";
+        assertEquals(expected, defaultJsonb.toJson(values));
+        assertEquals(expected, defaultJsonb.toJson(new Double[] {0.1, -2.5, 1.0E10, 1.0E-5, 4.9E-324, Double.MAX_VALUE,
+                123456.789, -0.0}));
+
+        PrimitiveContainer container = new PrimitiveContainer();
+        container.doubleProp = 1.0E-5;
+        assertTrue(defaultJsonb.toJson(container).contains("\"doubleProp\":1.0E-5"));
+    }
+
+    @Test
+    public void testSerializeFloatNotations() {
+        //floats are written in the BigDecimal notation
+        assertEquals("[0.35,1.0E+10,0.000010,-1.5]", defaultJsonb.toJson(new float[] {0.35f, 1.0E10f, 1.0E-5f, -1.5f}));
+        shouldFail(() -> defaultJsonb.toJson(Float.NaN));
+    }
+
+    @Test
+    public void testSerializeDoublesToStructure() {
+        JsonObject expected = Json.createObjectBuilder()
+                .add("double", 1.0E10)
+                .add("float", new BigDecimal("0.35"))
+                .add("doubles", Json.createArrayBuilder().add(0.1).add(-2.5))
+                .build();
+        assertEquals(expected, yassonJsonb.toJsonStructure(new DoubleContainer()));
+    }
+
+    public static class DoubleContainer {
+
+        public Double getDouble() {
+            return 1.0E10;
+        }
+
+        public float getFloat() {
+            return 0.35f;
+        }
+
+        public double[] getDoubles() {
+            return new double[] {0.1, -2.5};
+        }
+    }
+
+    @Test
+    public void testPrimitivePropertiesFromString() {
+        PrimitiveContainer result = defaultJsonb.fromJson("{\"intProp\":\"7\",\"longProp\":\"8\",\"doubleProp\":\"1.5\","
+                                                                  + "\"booleanProp\":\"true\",\"accessorProp\":\"9\"}",
+                                                          PrimitiveContainer.class);
+        assertEquals(7, result.intProp);
+        assertEquals(8L, result.longProp);
+        assertEquals(1.5, result.doubleProp);
+        assertTrue(result.booleanProp);
+        assertEquals(9, result.getAccessorProp());
+    }
 }
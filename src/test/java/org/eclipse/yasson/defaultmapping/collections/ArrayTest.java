@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -192,6 +192,34 @@ public class ArrayTest {
         assertArrayEquals(doubleArr, nullableJsonb.fromJson("[-128.0, 127.0]", double[].class), 0d);
     }
 
+    @Test
+    public void testBooleanArray() {
+        boolean[] booleanArr = {true, false, true};
+        assertEquals("[true,false,true]", nullableJsonb.toJson(booleanArr));
+        assertArrayEquals(booleanArr, nullableJsonb.fromJson("[true, false, \"true\"]", boolean[].class));
+    }
+
+    @Test
+    public void testLargeIntArray() {
+        int[] intArr = new int[1000];
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < intArr.length; i++) {
+            intArr[i] = i * 31 - 500;
+            expected.append(i == 0 ? "" : ",").append(intArr[i]);
+        }
+        expected.append(']');
+        assertEquals(expected.toString(), nullableJsonb.toJson(intArr));
+        assertArrayEquals(intArr, nullableJsonb.fromJson(expected.toString(), int[].class));
+    }
+
+    @Test
+    public void testPrimitiveArrayOfStrings() {
+        assertArrayEquals(new int[] {1, 2}, nullableJsonb.fromJson("[\"1\", 2]", int[].class));
+        assertArrayEquals(new long[] {3L, 4L}, nullableJsonb.fromJson("[3, \"4\"]", long[].class));
+        assertArrayEquals(new double[] {0.5, 1.5}, nullableJsonb.fromJson("[\"0.5\", 1.5]", double[].class), 0d);
+        assertArrayEquals(new int[0], nullableJsonb.fromJson("[]", int[].class));
+    }
+
     public static class KeyValue {
         public String field;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.yasson.defaultmapping.specific;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
@@ -23,6 +24,7 @@ import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 
 import org.eclipse.yasson.Jsonbs;
+import org.eclipse.yasson.YassonConfig;
 import org.eclipse.yasson.adapters.model.Chain;
 import org.eclipse.yasson.adapters.model.ChainAdapter;
 import org.eclipse.yasson.adapters.model.ChainSerializer;
@@ -160,6 +162,73 @@ public class RecursiveReferenceTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testSerializeEqualInstances() {
+        EqualNode root = new EqualNode();
+        root.child = new EqualNode();
+        root.child.child = new EqualNode();
+        assertEquals("{\"child\":{\"child\":{}}}", Jsonbs.defaultJsonb.toJson(root));
+    }
+
+    @Test
+    public void testSerializeDeepRecursiveReference() {
+        Chain first = chain(40);
+        Chain last = first;
+        while (last.getLinksTo() != null) {
+            last = last.getLinksTo();
+        }
+        last.setLinksTo(first);
+        JsonbException e = assertThrows(JsonbException.class, () -> Jsonbs.defaultJsonb.toJson(first));
+        assertEquals("Recursive reference has been found in class class org.eclipse.yasson.adapters.model.Chain.",
+                     rootCause(e).getMessage());
+    }
+
+    @Test
+    public void testSerializeMaxDepth() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withMaxDepth(5))) {
+            assertEquals("{\"linksTo\":{\"linksTo\":{\"linksTo\":{\"linksTo\":{\"name\":\"4\"},\"name\":\"3\"},"
+                                 + "\"name\":\"2\"},\"name\":\"1\"},\"name\":\"0\"}",
+                         jsonb.toJson(chain(5)));
+            JsonbException e = assertThrows(JsonbException.class, () -> jsonb.toJson(chain(6)));
+            assertEquals("Maximum depth 5 of the serialized objects has been exceeded in class "
+                                 + "class org.eclipse.yasson.adapters.model.Chain.",
+                         rootCause(e).getMessage());
+        }
+    }
+
+    private static Chain chain(int length) {
+        Chain first = new Chain("0");
+        Chain current = first;
+        for (int i = 1; i < length; i++) {
+            Chain next = new Chain(String.valueOf(i));
+            current.setLinksTo(next);
+            current = next;
+        }
+        return first;
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    public static class EqualNode {
+        public EqualNode child;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualNode;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
     public static class A {
         public Foo ref1;
         public Foo ref2;
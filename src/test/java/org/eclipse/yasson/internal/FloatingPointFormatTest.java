@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the double and float formatting is the shortest and that parsing is the same as of the JDK.
+ */
+public class FloatingPointFormatTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testKnownValues() {
+        assertEquals("0.0", FloatingPointFormat.toString(0d));
+        assertEquals("-0.0", FloatingPointFormat.toString(-0d));
+        assertEquals("1.0", FloatingPointFormat.toString(1d));
+        assertEquals("-123.456", FloatingPointFormat.toString(-123.456d));
+        assertEquals("0.001", FloatingPointFormat.toString(0.001d));
+        assertEquals("0.002", FloatingPointFormat.toString(2e-3d));
+        assertEquals("9.0E-4", FloatingPointFormat.toString(0.0009d));
+        assertEquals("9999999.0", FloatingPointFormat.toString(9999999d));
+        assertEquals("1.0E7", FloatingPointFormat.toString(1e7d));
+        assertEquals("1.0E23", FloatingPointFormat.toString(1e23d));
+        assertEquals("1.7976931348623157E308", FloatingPointFormat.toString(Double.MAX_VALUE));
+        assertEquals("4.9E-324", FloatingPointFormat.toString(Double.MIN_VALUE));
+        assertEquals("2.2250738585072014E-308", FloatingPointFormat.toString(Double.MIN_NORMAL));
+        assertEquals("NaN", FloatingPointFormat.toString(Double.NaN));
+        assertEquals("-Infinity", FloatingPointFormat.toString(Double.NEGATIVE_INFINITY));
+        assertEquals("0.1", FloatingPointFormat.toString(0.1f));
+        assertEquals("3.4028235E38", FloatingPointFormat.toString(Float.MAX_VALUE));
+        assertEquals("1.4E-45", FloatingPointFormat.toString(Float.MIN_VALUE));
+        assertEquals("1.1754944E-38", FloatingPointFormat.toString(Float.MIN_NORMAL));
+        assertEquals("1.0E10", FloatingPointFormat.toString(1e10f));
+    }
+
+    @Test
+    public void testDoubleShortestRoundTrip() {
+        for (int i = 0; i < 200_000; i++) {
+            double value = i % 2 == 0 ? Double.longBitsToDouble(random.nextLong()) : randomDecimal();
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            String formatted = FloatingPointFormat.toString(value);
+            String expected = Double.toString(value);
+            assertEquals(value, Double.parseDouble(formatted), formatted);
+            assertTrue(digits(formatted) <= digits(expected), () -> formatted + " is longer than " + expected);
+            if (digits(formatted) == digits(expected)) {
+                assertEquals(expected, formatted);
+            }
+            assertEquals(value, FloatingPointFormat.parseDouble(formatted), formatted);
+            assertEquals(value, FloatingPointFormat.parseDouble(expected), expected);
+        }
+    }
+
+    @Test
+    public void testFloatShortestRoundTrip() {
+        for (int i = 0; i < 200_000; i++) {
+            float value = i % 2 == 0 ? Float.intBitsToFloat(random.nextInt()) : (float) randomDecimal();
+            if (Float.isNaN(value)) {
+                continue;
+            }
+            String formatted = FloatingPointFormat.toString(value);
+            String expected = Float.toString(value);
+            assertEquals(value, Float.parseFloat(formatted), formatted);
+            assertTrue(digits(formatted) <= digits(expected), () -> formatted + " is longer than " + expected);
+            assertEquals(value, FloatingPointFormat.parseFloat(formatted), formatted);
+            assertEquals(value, FloatingPointFormat.parseFloat(expected), expected);
+        }
+    }
+
+    @Test
+    public void testParseSameAsJdk() {
+        for (int i = 0; i < 200_000; i++) {
+            String value = randomNumber();
+            assertEquals(Double.parseDouble(value), FloatingPointFormat.parseDouble(value), value);
+            assertEquals(Float.parseFloat(value), FloatingPointFormat.parseFloat(value), value);
+        }
+        String[] values = {"0", "-0", "-0.0e10", "1e400", "-1e400", "1e-400", "4.9e-324", "2.4703282292062328e-324",
+                "9007199254740993", "9223372036854775807", "18446744073709551615", "99999999999999999999",
+                "1.00000000000000011102230246251565404236316680908203125", "7.038531e-26", "3.4028236e38",
+                "1.4e-45", "0x1p3", " 1.5", "1.5d", ".5", "5.", "+1", "NaN", "-Infinity"};
+        for (String value : values) {
+            assertEquals(Double.parseDouble(value), FloatingPointFormat.parseDouble(value), value);
+            assertEquals(Float.parseFloat(value), FloatingPointFormat.parseFloat(value), value);
+        }
+    }
+
+    @Test
+    public void testParseSignificandWrapping() {
+        //significands which are a multiple of 2^64 would wrap to zero in the long
+        String[] values = {"18446744073709551616", "184467440737095516160", "36893488147419103232",
+                "0.18446744073709551616", "0.00018446744073709551616", "-18446744073709551616e-5",
+                "1844674407370955161.6", "10000000000000000000", "1000000000000000000.0"};
+        for (String value : values) {
+            assertEquals(Double.parseDouble(value), FloatingPointFormat.parseDouble(value), value);
+            assertEquals(Float.parseFloat(value), FloatingPointFormat.parseFloat(value), value);
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String value : new String[] {"", "-", "1e", "1.2.3", "e5", "."}) {
+            assertThrows(NumberFormatException.class, () -> FloatingPointFormat.parseDouble(value), value);
+            assertThrows(NumberFormatException.class, () -> FloatingPointFormat.parseFloat(value), value);
+        }
+    }
+
+    private double randomDecimal() {
+        return new BigDecimal(random.nextInt(100_000_000)).scaleByPowerOfTen(random.nextInt(40) - 25).doubleValue();
+    }
+
+    private String randomNumber() {
+        StringBuilder builder = new StringBuilder();
+        if (random.nextBoolean()) {
+            builder.append('-');
+        }
+        int integerDigits = random.nextInt(20);
+        for (int i = 0; i < integerDigits; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        if (integerDigits == 0 || random.nextBoolean()) {
+            builder.append(integerDigits == 0 ? "0." : ".");
+            int fractionDigits = 1 + random.nextInt(20);
+            for (int i = 0; i < fractionDigits; i++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        if (random.nextInt(3) == 0) {
+            builder.append(random.nextBoolean() ? 'e' : 'E').append(random.nextInt(700) - 350);
+        }
+        return builder.toString();
+    }
+
+    private static int digits(String value) {
+        String mantissa = value.replace("-", "").split("E")[0].replace(".", "");
+        mantissa = mantissa.replaceAll("^0+", "").replaceAll("0+$", "");
+        return Math.max(mantissa.length(), 1);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests that the ISO-8601 and I-JSON formatting and parsing is the same as of the {@link DateTimeFormatter}.
+ */
+public class IsoDateTimeFormatTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId[] ZONES = {ZoneOffset.UTC, ZoneOffset.ofHours(2), ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15),
+            UTC, ZoneId.of("Europe/Prague"), ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata")};
+    private static final int[] NANOS = {0, 100_000_000, 120_000_000, 123_000_000, 123_400_000, 123_456_000, 123_456_700,
+            123_456_789, 1, 1000, 1_000_000};
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testSameAsFormatter() {
+        for (int i = 0; i < 20_000; i++) {
+            ZonedDateTime value = randomDateTime();
+            Instant instant = value.toInstant();
+            LocalDateTime localDateTime = value.toLocalDateTime();
+            OffsetDateTime offsetDateTime = value.toOffsetDateTime();
+
+            String formatted = DateTimeFormatter.ISO_INSTANT.format(instant);
+            assertEquals(formatted, IsoDateTimeFormat.formatInstant(instant));
+            assertEquals(Instant.from(DateTimeFormatter.ISO_INSTANT.parse(formatted)), IsoDateTimeFormat.parseInstant(formatted));
+
+            formatted = DateTimeFormatter.ISO_LOCAL_DATE.format(localDateTime);
+            assertEquals(formatted, IsoDateTimeFormat.formatLocalDate(localDateTime.toLocalDate()));
+            assertEquals(LocalDate.parse(formatted), IsoDateTimeFormat.parseLocalDate(formatted));
+
+            formatted = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTime);
+            assertEquals(formatted, IsoDateTimeFormat.formatLocalDateTime(localDateTime));
+            assertEquals(LocalDateTime.parse(formatted), IsoDateTimeFormat.parseLocalDateTime(formatted));
+
+            formatted = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime);
+            assertEquals(formatted, IsoDateTimeFormat.formatOffsetDateTime(offsetDateTime));
+            assertEquals(OffsetDateTime.parse(formatted), IsoDateTimeFormat.parseOffsetDateTime(formatted));
+
+            formatted = DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value);
+            assertEquals(formatted, IsoDateTimeFormat.formatZonedDateTime(value));
+            assertEquals(ZonedDateTime.parse(formatted), IsoDateTimeFormat.parseZonedDateTime(formatted));
+
+            formatted = JsonbDateFormatter.IJSON_DATE_FORMATTER.format(offsetDateTime);
+            assertEquals(formatted, IsoDateTimeFormat.formatIJson(localDateTime, offsetDateTime.getOffset()));
+            assertEquals(OffsetDateTime.parse(formatted, JsonbDateFormatter.IJSON_DATE_FORMATTER),
+                         IsoDateTimeFormat.parseIJson(formatted));
+            assertEquals(ZonedDateTime.parse(formatted, JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC)),
+                         IsoDateTimeFormat.parseIJson(formatted).atZoneSameInstant(UTC));
+            assertEquals(JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(instant),
+                         IsoDateTimeFormat.formatIJson(instant));
+        }
+    }
+
+    @Test
+    public void testIJsonOffsetSeconds() {
+        LocalDateTime dateTime = LocalDateTime.of(2021, 2, 28, 10, 0, 0);
+        for (int seconds : new int[] {-30, -59, -1, 30, -90, 90, -3630, 3630}) {
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(seconds);
+            assertEquals(JsonbDateFormatter.IJSON_DATE_FORMATTER.format(dateTime.atOffset(offset)),
+                         IsoDateTimeFormat.formatIJson(dateTime, offset));
+        }
+        assertEquals("2021-02-28T10:00:00Z+00:00", IsoDateTimeFormat.formatIJson(dateTime, ZoneOffset.ofTotalSeconds(-30)));
+    }
+
+    @Test
+    public void testYearsOutsideOfFourDigits() {
+        LocalDateTime future = LocalDateTime.of(12345, 1, 2, 3, 4, 5);
+        LocalDateTime past = LocalDateTime.of(-12, 1, 2, 3, 4, 5);
+        assertEquals("+12345-01-02T03:04:05", IsoDateTimeFormat.formatLocalDateTime(future));
+        assertEquals("-0012-01-02T03:04:05", IsoDateTimeFormat.formatLocalDateTime(past));
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.MAX), IsoDateTimeFormat.formatInstant(Instant.MAX));
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.MIN), IsoDateTimeFormat.formatInstant(Instant.MIN));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("+12345-01-02T03:04:05"));
+    }
+
+    @Test
+    public void testNotCanonical() {
+        assertNull(IsoDateTimeFormat.parseLocalDate("2021-02-29"));
+        assertNull(IsoDateTimeFormat.parseLocalDate("2021-2-28"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2021-02-28t10:00:00"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2021-02-28T24:00:00"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2021-02-28T10:00:00."));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2021-02-28T10:00:00.1234567890"));
+        assertNull(IsoDateTimeFormat.parseInstant("2021-02-28T23:59:60Z"));
+        assertNull(IsoDateTimeFormat.parseInstant("2021-02-28T10:00Z"));
+        assertNull(IsoDateTimeFormat.parseOffsetDateTime("2021-02-28T10:00:00+1:00"));
+        assertNull(IsoDateTimeFormat.parseOffsetDateTime("2021-02-28T10:00:00+19:00"));
+        assertNull(IsoDateTimeFormat.parseZonedDateTime("2021-02-28T10:00:00+01:00[Europe/Nowhere]"));
+        assertNull(IsoDateTimeFormat.parseIJson("2021-02-28T10:00:00+01:00"));
+    }
+
+    @Test
+    public void testZoneCached() {
+        assertSame(IsoDateTimeFormat.zoneId("Europe/Prague"), IsoDateTimeFormat.zoneId("Europe/Prague"));
+        assertEquals(ZoneOffset.ofHours(1), IsoDateTimeFormat.zoneId("+01:00"));
+    }
+
+    private ZonedDateTime randomDateTime() {
+        int year = random.nextInt(10) == 0 ? random.nextInt(10000) : 1900 + random.nextInt(200);
+        LocalDateTime localDateTime = LocalDateTime.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                                                       random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                                                       NANOS[random.nextInt(NANOS.length)]);
+        localDateTime = localDateTime.plusDays(random.nextInt(4));
+        return localDateTime.atZone(ZONES[random.nextInt(ZONES.length)]);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the {@link ModelCache}.
+ */
+public class ModelCacheTest {
+
+    private static final Type LIST_OF_STRINGS = new TestTypeToken<List<String>>() { }.getType();
+    private static final Type LIST_OF_INTEGERS = new TestTypeToken<List<Integer>>() { }.getType();
+    private static final Type LIST_OF_LONGS = new TestTypeToken<List<Long>>() { }.getType();
+    private static final Type LIST_OF_DOUBLES = new TestTypeToken<List<Double>>() { }.getType();
+    private static final Type LIST_OF_FLOATS = new TestTypeToken<List<Float>>() { }.getType();
+    private static final Type MAP_OF_INTEGERS = new TestTypeToken<Map<String, Integer[]>>() { }.getType();
+
+    @Test
+    public void testLeastRecentlyUsedTypeEvicted() {
+        ModelCache<Type, String> cache = new ModelCache<>(4, type -> type);
+        cache.put(LIST_OF_STRINGS, "strings");
+        cache.put(LIST_OF_INTEGERS, "integers");
+        cache.put(LIST_OF_LONGS, "longs");
+        cache.put(LIST_OF_DOUBLES, "doubles");
+        assertEquals("strings", cache.get(LIST_OF_STRINGS));
+        cache.put(LIST_OF_FLOATS, "floats");
+
+        assertEquals("strings", cache.get(LIST_OF_STRINGS));
+        assertEquals("floats", cache.get(LIST_OF_FLOATS));
+        assertNull(cache.get(LIST_OF_INTEGERS));
+        assertNull(cache.get(LIST_OF_LONGS));
+    }
+
+    @Test
+    public void testClassesNotLimited() {
+        ModelCache<Type, String> cache = new ModelCache<>(1, type -> type);
+        cache.put(String.class, "string");
+        cache.put(Integer.class, "integer");
+        cache.put(Long.class, "long");
+        assertEquals("string", cache.get(String.class));
+        assertEquals("integer", cache.get(Integer.class));
+        assertEquals("long", cache.get(Long.class));
+    }
+
+    @Test
+    public void testEvictClass() {
+        ModelCache<Type, String> cache = new ModelCache<>(16, type -> type);
+        cache.put(Integer.class, "integer");
+        cache.put(LIST_OF_INTEGERS, "integers");
+        cache.put(MAP_OF_INTEGERS, "map");
+        cache.put(LIST_OF_STRINGS, "strings");
+        cache.evict(Integer.class);
+
+        assertNull(cache.get(Integer.class));
+        assertNull(cache.get(LIST_OF_INTEGERS));
+        assertNull(cache.get(MAP_OF_INTEGERS));
+        assertEquals("strings", cache.get(LIST_OF_STRINGS));
+    }
+
+    @Test
+    public void testClear() {
+        ModelCache<Type, String> cache = new ModelCache<>(16, type -> type);
+        cache.put(Integer.class, "integer");
+        cache.put(LIST_OF_INTEGERS, "integers");
+        cache.clear();
+
+        assertNull(cache.get(Integer.class));
+        assertNull(cache.get(LIST_OF_INTEGERS));
+        assertNotNull(cache.computeIfAbsent(Integer.class, type -> "created"));
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+import jakarta.json.spi.JsonProvider;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the models shared among the Jsonb instances.
+ */
+public class ModelRegistryTest {
+
+    public static class Pojo {
+        public String someValue;
+    }
+
+    private static JsonbContext context(JsonbConfig config) {
+        return new JsonbContext(config, JsonProvider.provider());
+    }
+
+    @Test
+    public void testSharedWithDifferentOutput() {
+        JsonbContext first = context(new YassonConfig().withSharedModels(true));
+        JsonbContext second = context(new YassonConfig().withSharedModels(true)
+                                              .withFormatting(true)
+                                              .withEncoding("UTF-16"));
+        assertSame(first.getMappingContext(), second.getMappingContext());
+        assertSame(first.getChainModelCreator(), second.getChainModelCreator());
+        assertSame(first.getSerializationModelCreator(), second.getSerializationModelCreator());
+        assertSame(first.getMappingContext().getOrCreateClassModel(Pojo.class),
+                   second.getMappingContext().getClassModel(Pojo.class));
+    }
+
+    @Test
+    public void testNotSharedWithDifferentMapping() {
+        JsonbContext first = context(new YassonConfig().withSharedModels(true));
+        JsonbContext second = context(new YassonConfig().withSharedModels(true)
+                                              .withPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE));
+        assertNotSame(first.getMappingContext(), second.getMappingContext());
+        assertEquals("someValue",
+                     first.getMappingContext().getOrCreateClassModel(Pojo.class).getPropertyModel("someValue")
+                             .getWriteName());
+        assertEquals("SomeValue",
+                     second.getMappingContext().getOrCreateClassModel(Pojo.class).getPropertyModel("someValue")
+                             .getWriteName());
+    }
+
+    @Test
+    public void testNotSharedByDefault() {
+        JsonbContext first = context(new JsonbConfig());
+        JsonbContext second = context(new JsonbConfig());
+        assertNotSame(first.getMappingContext(), second.getMappingContext());
+        assertNotSame(first.getSerializationModelCreator(), second.getSerializationModelCreator());
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import jakarta.json.spi.JsonProvider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the service lookups cached per context class loader.
+ */
+public class ServiceCacheTest {
+
+    @Test
+    public void testJsonProviderCached() {
+        assertSame(ServiceCache.jsonProvider(), ServiceCache.jsonProvider());
+    }
+
+    @Test
+    public void testJsonProviderPerClassLoader() throws Exception {
+        JsonProvider provider = ServiceCache.jsonProvider();
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], original)) {
+            thread.setContextClassLoader(classLoader);
+            JsonProvider other = ServiceCache.jsonProvider();
+            assertNotSame(provider, other);
+            assertSame(other, ServiceCache.jsonProvider());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testComponentInstanceCreatorNotShared() throws Exception {
+        assertNotSame(ServiceCache.componentInstanceCreator(), ServiceCache.componentInstanceCreator());
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import org.eclipse.yasson.internal.SingleFlight;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests for the models built concurrently by many threads at once.
+ */
+public class ModelBuildingConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    public static class Left {
+        public String name;
+        public Right right;
+    }
+
+    public static class Right {
+        public String name;
+        public Left left;
+    }
+
+    @Test
+    public void testBuiltOnce() throws Exception {
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object model = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> singleFlight.build("key", () -> {
+                    builds.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return model;
+                })));
+            }
+            started.await();
+            //give the other threads time to join the flight
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Object> future : futures) {
+                assertEquals(model, future.get());
+            }
+            assertEquals(1, builds.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNestedBuild() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        assertEquals("outer-inner", singleFlight.build("outer", () -> "outer-" + singleFlight.build("outer", () -> "inner")));
+    }
+
+    @Test
+    public void testFailedBuild() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        assertThrows(IllegalStateException.class, () -> singleFlight.build("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("value", singleFlight.build("key", () -> "value"));
+    }
+
+    @Test
+    public void testConcurrentRecursiveTypes() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int attempt = 0; attempt < 5; attempt++) {
+                Jsonb jsonb = JsonbBuilder.create();
+                CountDownLatch start = new CountDownLatch(1);
+                ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+                try {
+                    List<Future<String>> futures = new ArrayList<>();
+                    for (int i = 0; i < THREADS; i++) {
+                        boolean fromLeft = i % 2 == 0;
+                        futures.add(executor.submit(() -> {
+                            await(start);
+                            if (fromLeft) {
+                                Left left = jsonb.fromJson("{\"name\":\"l\",\"right\":{\"name\":\"r\"}}", Left.class);
+                                return jsonb.toJson(left);
+                            }
+                            Right right = jsonb.fromJson("{\"name\":\"r\",\"left\":{\"name\":\"l\"}}", Right.class);
+                            return jsonb.toJson(right);
+                        }));
+                    }
+                    start.countDown();
+                    for (int i = 0; i < THREADS; i++) {
+                        String expected = i % 2 == 0
+                                ? "{\"name\":\"l\",\"right\":{\"name\":\"r\"}}"
+                                : "{\"left\":{\"name\":\"l\"},\"name\":\"r\"}";
+                        assertEquals(expected, futures.get(i).get());
+                    }
+                } finally {
+                    executor.shutdown();
+                    jsonb.close();
+                }
+            }
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
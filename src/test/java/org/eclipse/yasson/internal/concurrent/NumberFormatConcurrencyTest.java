@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.concurrent;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+
+import org.eclipse.yasson.internal.PooledNumberFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@link JsonbNumberFormat} formatted numbers serialized by many threads at once.
+ */
+public class NumberFormatConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ITERATIONS = 2000;
+
+    public static class Amount {
+        @JsonbNumberFormat(value = "#,##0.00", locale = "en-us")
+        public BigDecimal value;
+
+        @JsonbNumberFormat(value = "#0.000", locale = "en-us")
+        public double rate;
+    }
+
+    @Test
+    public void testConcurrentSerialization() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    int thread = i;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < ITERATIONS; j++) {
+                            int number = thread * ITERATIONS + j;
+                            Amount amount = new Amount();
+                            amount.value = BigDecimal.valueOf(number * 1000L + 5, 1);
+                            amount.rate = number / 8d;
+                            String json = jsonb.toJson(amount);
+                            assertEquals(expected(number), json);
+                            Amount deserialized = jsonb.fromJson(json, Amount.class);
+                            assertEquals(0, BigDecimal.valueOf(number * 1000L + 5, 1).compareTo(deserialized.value));
+                            assertEquals(number / 8d, deserialized.rate);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testPooledFormat() throws Exception {
+        PooledNumberFormat format = new PooledNumberFormat("#0.00", Locale.GERMANY, false);
+        assertEquals("1234,50", format.format(1234.5d));
+        assertEquals("-0,12", format.format(-0.125d));
+        assertEquals(12.5d, format.parse("12,50").doubleValue());
+    }
+
+    private static String expected(int number) {
+        return "{\"rate\":\"" + String.format(Locale.US, "%.3f", number / 8d)
+                + "\",\"value\":\"" + String.format(Locale.US, "%,.2f", BigDecimal.valueOf(number * 1000L + 5, 1)) + "\"}";
+    }
+
+}
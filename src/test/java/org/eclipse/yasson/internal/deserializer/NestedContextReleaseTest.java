@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.json.Json;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.JsonbContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that the nested deserialization contexts are released even if the nested deserialization fails.
+ */
+public class NestedContextReleaseTest {
+
+    private final JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+
+    @Test
+    public void testPrimitiveArrayComponentFailure() {
+        assertReleasedOnFailure(failing -> PrimitiveArrayDeserializer.create(int[].class, failing));
+    }
+
+    @Test
+    public void testCollectionItemFailure() {
+        assertReleasedOnFailure(CollectionDeserializer::new);
+    }
+
+    private void assertReleasedOnFailure(Function<ModelDeserializer<JsonParser>, ModelDeserializer<JsonParser>> factory) {
+        List<DeserializationContextImpl> nestedContexts = new ArrayList<>();
+        ModelDeserializer<JsonParser> failing = (parser, context) -> {
+            nestedContexts.add(context);
+            throw new JsonbException("failed");
+        };
+        ModelDeserializer<JsonParser> deserializer = factory.apply(failing);
+        DeserializationContextImpl context = new DeserializationContextImpl(jsonbContext);
+        try (JsonParser parser = Json.createParser(new StringReader("[\"x\"]"))) {
+            context.setLastValueEvent(parser.next());
+            assertThrows(JsonbException.class, () -> deserializer.deserialize(parser, context));
+        }
+        //released nested context is reused by the next nested processing
+        assertSame(nestedContexts.get(0), context.nestedContext());
+    }
+
+}
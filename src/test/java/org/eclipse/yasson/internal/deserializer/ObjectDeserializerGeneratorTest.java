@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.json.Json;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.JsonbContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the deserializers created by the {@link ObjectDeserializerGenerator}.
+ * <br>
+ * Test runs against the Java 11 version of the generator in the unit tests and against the hidden class version
+ * from the multi-release jar in the integration tests.
+ */
+public class ObjectDeserializerGeneratorTest {
+
+    /**
+     * Java 16+ version of the generator defines hidden class deserializers.
+     */
+    private static final boolean HIDDEN_CLASSES = isPresent("org.eclipse.yasson.internal.ClassFileWriter");
+
+    private static final ModelDeserializer<JsonParser> CHAIN = (parser, context) -> "chain";
+
+    private static final ModelDeserializer<JsonParser> NAME = (parser, context) -> {
+        ((Bean) context.getInstance()).name = parser.getString();
+        return null;
+    };
+
+    private static final ModelDeserializer<JsonParser> COUNT = (parser, context) -> {
+        if (context.getLastValueEvent() != JsonParser.Event.VALUE_NUMBER) {
+            throw new JsonbException("Not a number");
+        }
+        ((Bean) context.getInstance()).count = parser.getInt();
+        return null;
+    };
+
+    private final JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+
+    @Test
+    public void testDeserializeProperties() {
+        assumeTrue(HIDDEN_CLASSES, "Deserializers are generated only as hidden classes");
+        ModelDeserializer<JsonParser> deserializer = generate(false, NAME, COUNT);
+        Bean bean = (Bean) deserialize(deserializer, "{\"count\":3,\"unknown\":{\"a\":[1]},\"other\":[],\"name\":\"first\"}");
+        assertEquals("first", bean.name);
+        assertEquals(3, bean.count);
+        assertEquals(Bean.class, deserialize(generate(false), "{\"unknown\":1}").getClass());
+        //hidden class names are not valid binary names
+        assertTrue(deserializer.getClass().getName().contains("/"), deserializer.getClass().getName());
+        //every type gets its own class
+        assertNotSame(deserializer.getClass(), generate(false, NAME, COUNT).getClass());
+    }
+
+    @Test
+    public void testValueProcessedByChain() {
+        ModelDeserializer<JsonParser> deserializer = generate(false, NAME, COUNT);
+        assertEquals("chain", deserialize(deserializer, "null"));
+        assertEquals("chain", deserialize(deserializer, "[]"));
+    }
+
+    @Test
+    public void testFallbackToChain() {
+        assumeFalse(HIDDEN_CLASSES, "Hidden class deserializers are generated for all the types");
+        assertSame(CHAIN, generate(false, NAME, COUNT));
+    }
+
+    @Test
+    public void testErrors() {
+        assumeTrue(HIDDEN_CLASSES, "Deserializers are generated only as hidden classes");
+        JsonbException exception = assertThrows(JsonbException.class,
+                                                () -> deserialize(generate(false, NAME, COUNT), "{\"count\":\"a\"}"));
+        assertEquals("Unable to deserialize property 'count' because of: Not a number", exception.getMessage());
+        exception = assertThrows(JsonbException.class, () -> deserialize(generate(true, NAME, COUNT), "{\"unknown\":1}"));
+        assertTrue(exception.getMessage().contains("unknown"), exception.getMessage());
+        assertNull(((Bean) deserialize(generate(true, NAME, COUNT), "{\"ignored\":1}")).name);
+    }
+
+    @SafeVarargs
+    private ModelDeserializer<JsonParser> generate(boolean failOnUnknown, ModelDeserializer<JsonParser>... properties) {
+        List<String> names = List.of("name", "count").subList(0, properties.length);
+        PropertyReader reader = new PropertyReader(new PropertyNameMatcher(names), Bean.class, failOnUnknown, Set.of("ignored"),
+                                                   jsonbContext.getMappingContext().getOrCreateClassModel(Bean.class)
+                                                           .getDefaultInstanceSupplier());
+        return ObjectDeserializerGenerator.generate(reader, List.of(properties), CHAIN);
+    }
+
+    private Object deserialize(ModelDeserializer<JsonParser> deserializer, String json) {
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            DeserializationContextImpl context = new DeserializationContextImpl(jsonbContext);
+            context.setLastValueEvent(parser.next());
+            return deserializer.deserialize(parser, context);
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, ObjectDeserializerGenerator.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    public static class Bean {
+
+        public String name;
+
+        public int count;
+
+    }
+
+}
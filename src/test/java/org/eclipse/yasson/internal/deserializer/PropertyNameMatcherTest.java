@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PropertyNameMatcherTest {
+
+    private final PropertyNameMatcher matcher = new PropertyNameMatcher(List.of("id", "name", "type", "amount", "a"));
+
+    @Test
+    public void testExpectedSlotMatch() {
+        assertEquals(0, matcher.match("id", 0));
+        assertEquals(1, matcher.match("name", 1));
+        assertEquals(4, matcher.match("a", 4));
+    }
+
+    @Test
+    public void testOutOfOrderMatch() {
+        assertEquals(3, matcher.match("amount", 0));
+        assertEquals(2, matcher.match("type", 1));
+        assertEquals(0, matcher.match("id", 5));
+    }
+
+    @Test
+    public void testUnknownProperty() {
+        assertEquals(PropertyNameMatcher.NOT_FOUND, matcher.match("nam", 1));
+        assertEquals(PropertyNameMatcher.NOT_FOUND, matcher.match("kind", 2));
+        assertEquals(PropertyNameMatcher.NOT_FOUND, matcher.match("identifier", 0));
+        assertEquals(PropertyNameMatcher.NOT_FOUND, matcher.match("", 0));
+        assertEquals(PropertyNameMatcher.NOT_FOUND, matcher.match(null, 0));
+    }
+
+    @Test
+    public void testCaseInsensitiveMatch() {
+        PropertyNameMatcher caseInsensitive = new PropertyNameMatcher(List.of("firstName", "lastName", "\u00e9t\u00e9"), true);
+        assertEquals(0, caseInsensitive.match("firstName", 0));
+        assertEquals(0, caseInsensitive.match("FIRSTNAME", 0));
+        assertEquals(1, caseInsensitive.match("lastname", 0));
+        assertEquals(2, caseInsensitive.match("\u00c9T\u00c9", 0));
+        assertEquals(2, caseInsensitive.match("\u00e9t\u00e9", 2));
+        assertEquals(PropertyNameMatcher.NOT_FOUND, caseInsensitive.match("first_name", 0));
+        assertEquals("firstname", caseInsensitive.name(0));
+    }
+
+}
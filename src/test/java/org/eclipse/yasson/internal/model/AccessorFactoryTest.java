@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Tests for the accessors created by the {@link AccessorFactory}.
+ * <br>
+ * Test runs against the Java 11 version of the factory in the unit tests and against the hidden class version
+ * from the multi-release jar in the integration tests.
+ */
+public class AccessorFactoryTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Java 16+ version of the factory defines hidden class accessors for all the handles.
+     */
+    private static final boolean HIDDEN_CLASS_ACCESSORS = isPresent("org.eclipse.yasson.internal.model.AccessorClassWriter");
+
+    @Test
+    public void testPublicMembers() throws Throwable {
+        PublicBean bean = new PublicBean();
+        ValueSetter nameSetter = AccessorFactory.createSetter(LOOKUP.unreflect(PublicBean.class.getMethod("setName", String.class)));
+        ValueSetter countSetter = AccessorFactory.createSetter(LOOKUP.unreflect(PublicBean.class.getMethod("setCount", int.class)));
+        ValueGetter nameGetter = AccessorFactory.createGetter(LOOKUP.unreflect(PublicBean.class.getMethod("getName")));
+        ValueGetter countGetter = AccessorFactory.createGetter(LOOKUP.unreflect(PublicBean.class.getMethod("getCount")));
+
+        nameSetter.setValue(bean, "name");
+        countSetter.setValue(bean, 5);
+        assertEquals("name", nameGetter.getValue(bean));
+        assertEquals(5, countGetter.getValue(bean));
+
+        assertGenerated(true, nameSetter, countSetter, nameGetter, countGetter);
+        assertNotSame(nameGetter.getClass(), countGetter.getClass());
+        assertNotSame(nameSetter.getClass(), countSetter.getClass());
+    }
+
+    @Test
+    public void testPackagePrivateMembers() throws Throwable {
+        PackagePrivateBean bean = new PackagePrivateBean();
+        ValueSetter setter = AccessorFactory.createSetter(accessibleHandle(PackagePrivateBean.class, "setName", String.class));
+        ValueGetter getter = AccessorFactory.createGetter(accessibleHandle(PackagePrivateBean.class, "getName"));
+
+        setter.setValue(bean, "name");
+        assertEquals("name", getter.getValue(bean));
+        assertGenerated(HIDDEN_CLASS_ACCESSORS, setter, getter);
+    }
+
+    @Test
+    public void testInaccessibleMembers() throws Throwable {
+        PrivateBean bean = new PrivateBean();
+        ValueSetter setter = AccessorFactory.createSetter(accessibleHandle(PrivateBean.class, "setName", String.class));
+        ValueGetter getter = AccessorFactory.createGetter(accessibleHandle(PrivateBean.class, "getName"));
+
+        setter.setValue(bean, "name");
+        assertEquals("name", getter.getValue(bean));
+        assertGenerated(HIDDEN_CLASS_ACCESSORS, setter, getter);
+    }
+
+    @Test
+    public void testFallbackToMethodHandle() throws Throwable {
+        assumeFalse(HIDDEN_CLASS_ACCESSORS, "Hidden class accessors are defined for all the handles");
+        Field field = PublicBean.class.getField("value");
+        PublicBean bean = new PublicBean();
+        ValueSetter setter = AccessorFactory.createSetter(LOOKUP.unreflectSetter(field));
+        ValueGetter getter = AccessorFactory.createGetter(LOOKUP.unreflectGetter(field));
+        ValueGetter otherGetter = AccessorFactory.createGetter(accessibleHandle(PrivateBean.class, "getName"));
+
+        setter.setValue(bean, 1L);
+        assertEquals(1L, getter.getValue(bean));
+        assertGenerated(false, setter, getter, otherGetter);
+        //method handle accessors share the same class
+        assertSame(getter.getClass(), otherGetter.getClass());
+    }
+
+    @Test
+    public void testFieldHandles() throws Throwable {
+        Field field = PublicBean.class.getField("value");
+        PublicBean bean = new PublicBean();
+        ValueSetter setter = AccessorFactory.createSetter(LOOKUP.unreflectSetter(field));
+        ValueGetter getter = AccessorFactory.createGetter(LOOKUP.unreflectGetter(field));
+
+        setter.setValue(bean, 10L);
+        assertEquals(10L, bean.value);
+        assertEquals(10L, getter.getValue(bean));
+        assertGenerated(HIDDEN_CLASS_ACCESSORS, setter, getter);
+    }
+
+    @Test
+    public void testRecordComponents() throws Throwable {
+        Point point = new Point("origin", 3);
+        ValueGetter nameGetter = AccessorFactory.createGetter(LOOKUP.unreflect(Point.class.getMethod("name")));
+        ValueGetter xGetter = AccessorFactory.createGetter(LOOKUP.unreflect(Point.class.getMethod("x")));
+
+        assertEquals("origin", nameGetter.getValue(point));
+        assertEquals(3, xGetter.getValue(point));
+        assertGenerated(true, nameGetter, xGetter);
+    }
+
+    @Test
+    public void testAccessorExceptionNotWrapped() throws Throwable {
+        ValueSetter setter = AccessorFactory.createSetter(LOOKUP.unreflect(PublicBean.class.getMethod("setFailing", String.class)));
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                                                       () -> setter.setValue(new PublicBean(), "value"));
+        assertEquals("failing", exception.getMessage());
+    }
+
+    @Test
+    public void testInstanceSuppliers() throws Throwable {
+        InstanceSupplier publicSupplier = AccessorFactory.createInstanceSupplier(PublicBean.class.getConstructor());
+        InstanceSupplier packageSupplier = AccessorFactory.createInstanceSupplier(PackagePrivateBean.class.getDeclaredConstructor());
+
+        assertEquals(PublicBean.class, publicSupplier.newInstance().getClass());
+        assertEquals(PackagePrivateBean.class, packageSupplier.newInstance().getClass());
+        assertGenerated(true, publicSupplier);
+        assertGenerated(HIDDEN_CLASS_ACCESSORS, packageSupplier);
+    }
+
+    @Test
+    public void testInstanceSupplierExceptionNotWrapped() throws Throwable {
+        InstanceSupplier supplier = AccessorFactory.createInstanceSupplier(FailingBean.class.getConstructor());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, supplier::newInstance);
+        assertEquals("failing", exception.getMessage());
+    }
+
+    private static MethodHandle accessibleHandle(Class<?> type, String name, Class<?>... parameterTypes) throws Exception {
+        Method method = type.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method);
+    }
+
+    private static void assertGenerated(boolean expected, Object... accessors) {
+        for (Object accessor : accessors) {
+            //method handle accessor is a lambda capturing the handle, generated accessor has no state
+            boolean generated = Arrays.stream(accessor.getClass().getDeclaredFields())
+                    .allMatch(field -> Modifier.isStatic(field.getModifiers()));
+            assertEquals(expected, generated, accessor.getClass().getName());
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, AccessorFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    public static class PublicBean {
+
+        public Long value;
+
+        private String name;
+
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setFailing(String value) {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    static class PackagePrivateBean {
+
+        private String name;
+
+        String getName() {
+            return name;
+        }
+
+        void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class PrivateBean {
+
+        private String name;
+
+        private String getName() {
+            return name;
+        }
+
+        private void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class FailingBean {
+
+        public FailingBean() {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    public record Point(String name, int x) {
+    }
+
+}
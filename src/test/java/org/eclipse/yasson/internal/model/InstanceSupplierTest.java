@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the instances created by the generated constructor suppliers.
+ */
+public class InstanceSupplierTest {
+
+    public static class PublicPojo {
+        public String value = "initial";
+    }
+
+    public static class ProtectedPojo {
+        protected ProtectedPojo() {
+        }
+    }
+
+    public static class FailingPojo {
+        public FailingPojo() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    private static InstanceSupplier supplier(Class<?> type) throws NoSuchMethodException {
+        return InstanceSupplier.of(type.getDeclaredConstructor());
+    }
+
+    @Test
+    public void testPublicConstructor() throws Throwable {
+        InstanceSupplier supplier = supplier(PublicPojo.class);
+        Object first = supplier.newInstance();
+        assertInstanceOf(PublicPojo.class, first);
+        assertEquals("initial", ((PublicPojo) first).value);
+        assertNotSame(first, supplier.newInstance());
+    }
+
+    @Test
+    public void testProtectedConstructor() throws Throwable {
+        assertInstanceOf(ProtectedPojo.class, ReflectionUtils.createInstance(supplier(ProtectedPojo.class)));
+    }
+
+    @Test
+    public void testConstructorException() throws Throwable {
+        JsonbException exception = assertThrows(JsonbException.class,
+                                                 () -> ReflectionUtils.createInstance(supplier(FailingPojo.class)));
+        assertEquals("Can't create instance", exception.getMessage());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    public void testAbstractClass() throws Throwable {
+        assertThrows(JsonbException.class, () -> ReflectionUtils.createInstance(supplier(AbstractPojo.class)));
+    }
+
+    @Test
+    public void testClassModelSupplierCached() {
+        ClassModel classModel = new ClassModel(PublicPojo.class, null, null, null);
+        assertSame(classModel.getDefaultInstanceSupplier(), classModel.getDefaultInstanceSupplier());
+    }
+
+    public abstract static class AbstractPojo {
+        public AbstractPojo() {
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.config.PropertyNamingStrategy;
 
 import org.eclipse.yasson.internal.model.customization.StrategiesProvider;
@@ -98,6 +100,14 @@ public class PropertyNamingStrategyTest {
         assertResult(result);
     }
     
+    @Test
+    public void testCaseInsensitiveCreator() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE));
+        CreatorNamingPojo result = jsonb.fromJson("{\"FIRSTNAME\":\"abc\",\"lastname\":\"def\"}", CreatorNamingPojo.class);
+        assertEquals("abc", result.firstName);
+        assertEquals("def", result.lastName);
+    }
+
     @Test
     public void testIdentityCaseSensitive() {
         Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.IDENTITY));
@@ -122,4 +132,15 @@ public class PropertyNamingStrategyTest {
         assertEquals("def", result._startingWithUnderscoreProperty);
         assertEquals("ghi", result.CAPS_UNDERSCORE_PROPERTY);
     }
+
+    public static class CreatorNamingPojo {
+        public final String firstName;
+        public final String lastName;
+
+        @JsonbCreator
+        public CreatorNamingPojo(@JsonbProperty("firstName") String firstName, @JsonbProperty("lastName") String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the serializers created by the {@link ObjectSerializerGenerator}.
+ * <br>
+ * Test runs against the Java 11 version of the generator in the unit tests and against the hidden class version
+ * from the multi-release jar in the integration tests.
+ */
+public class ObjectSerializerGeneratorTest {
+
+    /**
+     * Java 16+ version of the generator defines hidden class serializers.
+     */
+    private static final boolean HIDDEN_CLASSES = isPresent("org.eclipse.yasson.internal.ClassFileWriter");
+
+    private static final ModelSerializer CHAIN = (value, generator, context) -> generator.write("chain");
+
+    private final JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+
+    @Test
+    public void testSerializeProperties() {
+        assumeTrue(HIDDEN_CLASSES, "Serializers are generated only as hidden classes");
+        Map<String, ModelSerializer> properties = new LinkedHashMap<>();
+        properties.put("name", (value, generator, context) -> generator.write(context.getKey(), ((Bean) value).name));
+        properties.put("count", (value, generator, context) -> generator.write(context.getKey(), ((Bean) value).count));
+        ModelSerializer serializer = ObjectSerializerGenerator.generate(properties, CHAIN);
+        Bean bean = new Bean();
+        bean.name = "first";
+        bean.count = 3;
+        assertEquals("{\"name\":\"first\",\"count\":3}", serialize(serializer, bean));
+        assertEquals("{}", serialize(ObjectSerializerGenerator.generate(Map.of(), CHAIN), bean));
+        //hidden class names are not valid binary names
+        assertTrue(serializer.getClass().getName().contains("/"), serializer.getClass().getName());
+        //every type gets its own class
+        assertNotSame(serializer.getClass(), ObjectSerializerGenerator.generate(properties, CHAIN).getClass());
+    }
+
+    @Test
+    public void testFallbackToChain() {
+        assumeFalse(HIDDEN_CLASSES, "Hidden class serializers are generated for all the types");
+        assertSame(CHAIN, ObjectSerializerGenerator.generate(Map.of("name", CHAIN), CHAIN));
+    }
+
+    @Test
+    public void testNullValue() {
+        ModelSerializer serializer = ObjectSerializerGenerator.generate(Map.of("name", CHAIN), CHAIN);
+        assertEquals("[\"chain\"]", serialize((value, generator, context) -> {
+            generator.writeStartArray();
+            serializer.serialize(null, generator, context);
+            generator.writeEnd();
+        }, new Bean()));
+    }
+
+    @Test
+    public void testPropertyError() {
+        assumeTrue(HIDDEN_CLASSES, "Serializers are generated only as hidden classes");
+        Map<String, ModelSerializer> properties = new LinkedHashMap<>();
+        properties.put("name", (value, generator, context) -> generator.write(context.getKey(), ((Bean) value).name));
+        properties.put("count", (value, generator, context) -> {
+            throw new IllegalStateException("Failed");
+        });
+        ModelSerializer serializer = ObjectSerializerGenerator.generate(properties, CHAIN);
+        Bean bean = new Bean();
+        bean.name = "first";
+        SerializationContextImpl context = new SerializationContextImpl(jsonbContext);
+        JsonGenerator generator = Json.createGenerator(new StringWriter());
+
+        JsonbException exception = assertThrows(JsonbException.class, () -> serializer.serialize(bean, generator, context));
+        assertTrue(exception.getMessage().contains("count"), exception.getMessage());
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        //failed object is not reported as a recursive reference
+        assertTrue(context.addProcessedObject(bean));
+    }
+
+    private String serialize(ModelSerializer serializer, Object value) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+            serializer.serialize(value, generator, new SerializationContextImpl(jsonbContext));
+        }
+        return writer.toString();
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, ObjectSerializerGenerator.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    public static class Bean {
+
+        public String name;
+
+        public int count;
+
+    }
+
+}
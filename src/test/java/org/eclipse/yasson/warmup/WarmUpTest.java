@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.WarmUpReport;
+import org.eclipse.yasson.YassonJsonb;
+import org.eclipse.yasson.warmup.model.Clashing;
+import org.eclipse.yasson.warmup.model.Customer;
+import org.eclipse.yasson.warmup.model.Note;
+import org.eclipse.yasson.warmup.model.Order;
+import org.eclipse.yasson.warmup.model.OrderLine;
+import org.eclipse.yasson.warmup.model.Product;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link YassonJsonb#warmUp(Class[])} and {@link YassonJsonb#warmUp(String...)}.
+ */
+public class WarmUpTest {
+
+    @Test
+    public void testWarmUpReachableTypes() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            WarmUpReport report = jsonb.warmUp(Order.class);
+            assertEquals(Set.of(Order.class, OrderLine.class, Customer.class, Product.class, Note.class),
+                         report.getTypeTimes().keySet());
+            assertTrue(report.getFailures().isEmpty());
+            assertTrue(report.getTotalTime().toNanos() > 0);
+
+            Order order = new Order();
+            order.id = "1";
+            OrderLine line = new OrderLine();
+            line.product = new Product();
+            line.product.name = "p";
+            order.lines = List.of(line);
+            Note note = new Note();
+            note.text = "n";
+            order.notes = Map.of("a", note);
+            String json = "{\"id\":\"1\",\"lines\":[{\"product\":{\"name\":\"p\"}}],\"notes\":{\"a\":{\"text\":\"n\"}}}";
+            assertEquals(json, jsonb.toJson(order));
+            assertEquals("p", jsonb.fromJson(json, Order.class).lines.get(0).product.name);
+        }
+    }
+
+    @Test
+    public void testWarmUpPackage() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            WarmUpReport report = jsonb.warmUp("org.eclipse.yasson.warmup.model");
+            assertEquals(Set.of(Order.class, OrderLine.class, Customer.class, Product.class, Note.class),
+                         report.getTypeTimes().keySet());
+            assertEquals(Set.of(Clashing.class), report.getFailures().keySet());
+            assertTrue(report.getFailures().get(Clashing.class) instanceof JsonbException);
+        }
+    }
+
+    @Test
+    public void testWarmUpMissingDependency() throws Exception {
+        Class<?> dependent = new MissingDependencyClassLoader().loadClass(Dependent.class.getName());
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            WarmUpReport report = jsonb.warmUp(dependent, Customer.class);
+            assertEquals(Set.of(Customer.class), report.getTypeTimes().keySet());
+            assertEquals(Set.of(dependent), report.getFailures().keySet());
+            assertTrue(report.getFailures().get(dependent) instanceof NoClassDefFoundError);
+        }
+    }
+
+    @Test
+    public void testWarmUpSkipsBuiltInTypes() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            WarmUpReport report = jsonb.warmUp(String.class, int.class, Customer[].class);
+            assertEquals(Set.of(Customer.class), report.getTypeTimes().keySet());
+        }
+    }
+
+    public static class Dependent {
+        public Dependency dependency;
+    }
+
+    public static class Dependency {
+    }
+
+    /**
+     * Defines its own copy of the {@link Dependent}, while the {@link Dependency} cannot be found.
+     */
+    private static final class MissingDependencyClassLoader extends ClassLoader {
+
+        private MissingDependencyClassLoader() {
+            super(WarmUpTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(Dependency.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.equals(Dependent.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = stream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+    }
+
+}
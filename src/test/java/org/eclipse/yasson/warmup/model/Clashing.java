@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.warmup.model;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class Clashing {
+    @JsonbProperty("value")
+    public String first;
+    @JsonbProperty("value")
+    public String second;
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.warmup.model;
+
+import java.util.List;
+import java.util.Map;
+
+public class Order {
+    public String id;
+    public Customer customer;
+    public List<OrderLine> lines;
+    public Map<String, Note> notes;
+    public Order[] related;
+}
@@ -0,0 +1,98 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.BeanData;
+import org.eclipse.yasson.jmh.model.CollectionsData;
+import org.eclipse.yasson.jmh.model.ScalarData;
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the latency of the first calls of the new Jsonb instance made by many threads at once.
+ * <br>
+ * Every invocation uses new Jsonb instance, so all the threads request the serializers and deserializers
+ * which have not been built yet.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColdStartConcurrencyTest {
+
+    @Param({"1", "8", "32"})
+    private int threads;
+
+    private ExecutorService executor;
+
+    private Jsonb jsonb;
+
+    private CollectionsData collectionsData;
+
+    private BeanData beanData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(threads);
+        collectionsData = new CollectionsData();
+        collectionsData.setListData(new ArrayList<>());
+        collectionsData.setSetData(new HashSet<>());
+        for (int i = 0; i < 5; i++) {
+            collectionsData.getListData().add(new ScalarData("strValue" + i, i));
+            collectionsData.getSetData().add(new ScalarData("strValue" + i, i));
+        }
+        beanData = new BeanData();
+        beanData.setName("bean");
+        beanData.setCount(42);
+    }
+
+    @Setup(Level.Invocation)
+    public void createJsonb() {
+        jsonb = JsonbBuilder.create();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeJsonb() throws Exception {
+        jsonb.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public int testColdStart() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Callable<Integer> task = () -> {
+                start.await();
+                String collections = jsonb.toJson(collectionsData);
+                String bean = jsonb.toJson(beanData);
+                jsonb.fromJson(collections, CollectionsData.class);
+                jsonb.fromJson(bean, BeanData.class);
+                return collections.length() + bean.length();
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+        int length = 0;
+        for (Future<Integer> future : futures) {
+            length += future.get();
+        }
+        return length;
+    }
+
+}
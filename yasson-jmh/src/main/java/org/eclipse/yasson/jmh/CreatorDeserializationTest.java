@@ -0,0 +1,42 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.BeanData;
+import org.eclipse.yasson.jmh.model.RecordData;
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserialization of the record, which is created by its canonical constructor,
+ * with deserialization of the setter based bean with the same properties.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CreatorDeserializationTest {
+
+    private Jsonb jsonb;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.jsonb = JsonbBuilder.create();
+        this.json = "{\"active\":true,\"count\":42,\"name\":\"Short string\",\"timestamp\":1700000000000,\"value\":3.14}";
+    }
+
+    @Benchmark
+    public RecordData testDeserializeRecord() {
+        return jsonb.fromJson(json, RecordData.class);
+    }
+
+    @Benchmark
+    public BeanData testDeserializeBean() {
+        return jsonb.fromJson(json, BeanData.class);
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.eclipse.yasson.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.eclipse.yasson.internal.FloatingPointFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the double and float formatting and parsing compared to the JDK.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FloatingPointTest {
+
+    private static final int SIZE = 1000;
+
+    private final double[] doubles = new double[SIZE];
+    private final float[] floats = new float[SIZE];
+    private final String[] doubleStrings = new String[SIZE];
+    private final String[] floatStrings = new String[SIZE];
+    private Jsonb jsonb;
+    private String doublesJson;
+    private String floatsJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            //coordinates with the typical precision as well as arbitrary doubles
+            doubles[i] = i % 2 == 0 ? Math.round(random.nextDouble() * 360_000_000d - 180_000_000d) / 1_000_000d
+                    : random.nextDouble() * 1000;
+            floats[i] = (float) doubles[i];
+            doubleStrings[i] = Double.toString(doubles[i]);
+            floatStrings[i] = Float.toString(floats[i]);
+        }
+        jsonb = JsonbBuilder.create();
+        doublesJson = jsonb.toJson(doubles);
+        floatsJson = jsonb.toJson(floats);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public void testJdkDoubleToString(Blackhole blackhole) {
+        for (double value : doubles) {
+            blackhole.consume(Double.toString(value));
+        }
+    }
+
+    @Benchmark
+    public void testDoubleToString(Blackhole blackhole) {
+        for (double value : doubles) {
+            blackhole.consume(FloatingPointFormat.toString(value));
+        }
+    }
+
+    @Benchmark
+    public void testJdkFloatToString(Blackhole blackhole) {
+        for (float value : floats) {
+            blackhole.consume(Float.toString(value));
+        }
+    }
+
+    @Benchmark
+    public void testFloatToString(Blackhole blackhole) {
+        for (float value : floats) {
+            blackhole.consume(FloatingPointFormat.toString(value));
+        }
+    }
+
+    @Benchmark
+    public void testJdkParseDouble(Blackhole blackhole) {
+        for (String value : doubleStrings) {
+            blackhole.consume(Double.parseDouble(value));
+        }
+    }
+
+    @Benchmark
+    public void testParseDouble(Blackhole blackhole) {
+        for (String value : doubleStrings) {
+            blackhole.consume(FloatingPointFormat.parseDouble(value));
+        }
+    }
+
+    @Benchmark
+    public void testJdkParseFloat(Blackhole blackhole) {
+        for (String value : floatStrings) {
+            blackhole.consume(Float.parseFloat(value));
+        }
+    }
+
+    @Benchmark
+    public void testParseFloat(Blackhole blackhole) {
+        for (String value : floatStrings) {
+            blackhole.consume(FloatingPointFormat.parseFloat(value));
+        }
+    }
+
+    @Benchmark
+    public double[] testDeserializeDoubles() {
+        return jsonb.fromJson(doublesJson, double[].class);
+    }
+
+    @Benchmark
+    public float[] testDeserializeFloats() {
+        return jsonb.fromJson(floatsJson, float[].class);
+    }
+
+    @Benchmark
+    public String testSerializeDoubles() {
+        return jsonb.toJson(doubles);
+    }
+
+    @Benchmark
+    public String testSerializeFloats() {
+        return jsonb.toJson(floats);
+    }
+
+}
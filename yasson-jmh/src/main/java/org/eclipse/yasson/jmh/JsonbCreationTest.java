@@ -0,0 +1,48 @@
+package org.eclipse.yasson.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+import jakarta.json.bind.config.PropertyOrderStrategy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the cost of the Jsonb instance creation, which matters for the code creating new instance per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonbCreationTest {
+
+    private JsonbConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.config = new JsonbConfig()
+                .withFormatting(true)
+                .withNullValues(true)
+                .withDateFormat("yyyy-MM-dd", null)
+                .withPropertyNamingStrategy(PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES)
+                .withPropertyOrderStrategy(PropertyOrderStrategy.REVERSE);
+    }
+
+    @Benchmark
+    public Jsonb testCreate() throws Exception {
+        Jsonb jsonb = JsonbBuilder.create();
+        jsonb.close();
+        return jsonb;
+    }
+
+    @Benchmark
+    public Jsonb testCreateWithConfig() throws Exception {
+        Jsonb jsonb = JsonbBuilder.create(config);
+        jsonb.close();
+        return jsonb;
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.eclipse.yasson.jmh;
 
+import org.eclipse.yasson.YassonConfig;
 import org.eclipse.yasson.jmh.model.ScalarData;
 import org.openjdk.jmh.annotations.*;
 
@@ -18,6 +19,9 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 public class ScalarDataTest {
 
+    @Param({"false", "true"})
+    private boolean codegen;
+
     private Jsonb jsonb;
 
     private ScalarData data;
@@ -26,7 +30,7 @@ public class ScalarDataTest {
 
     @Setup(Level.Trial)
     public void setUp() {
-        this.jsonb = JsonbBuilder.create();
+        this.jsonb = JsonbBuilder.create(new YassonConfig().withCodegen(codegen));
         this.data = new ScalarData();
         this.json = "{\"integerValue\":10,\"stringValue\":\"Short string\"}";
     }
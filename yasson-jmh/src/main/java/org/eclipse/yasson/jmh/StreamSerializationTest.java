@@ -0,0 +1,90 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.ScalarData;
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the per call overhead of the stream based serialization and deserialization.
+ * <br>
+ * Factory benchmarks show the cost of creating JSONP generator factory and resolving the charset for every call
+ * compared to the factory shared by the whole Jsonb instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StreamSerializationTest {
+
+    private Jsonb jsonb;
+
+    private Jsonb formattingJsonb;
+
+    private JsonProvider provider;
+
+    private JsonGeneratorFactory sharedFactory;
+
+    private ScalarData data;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.jsonb = JsonbBuilder.create();
+        this.formattingJsonb = JsonbBuilder.create(new JsonbConfig().withFormatting(true));
+        this.provider = JsonProvider.provider();
+        this.sharedFactory = provider.createGeneratorFactory(Map.of());
+        this.data = new ScalarData();
+        this.json = "{\"integerValue\":10,\"stringValue\":\"Short string\"}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] testSerializeToStream() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(64);
+        jsonb.toJson(data, stream);
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public String testSerializeFormatted() {
+        return formattingJsonb.toJson(data);
+    }
+
+    @Benchmark
+    public ScalarData testDeserializeFromStream() {
+        return jsonb.fromJson(new ByteArrayInputStream(json), ScalarData.class);
+    }
+
+    @Benchmark
+    public byte[] testFactoryPerCall() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(64);
+        try (JsonGenerator generator = provider.createGeneratorFactory(Map.of())
+                .createGenerator(stream, Charset.forName("UTF-8"))) {
+            generator.writeStartObject().write("stringValue", "Short string").writeEnd();
+        }
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] testSharedFactory() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(64);
+        try (JsonGenerator generator = sharedFactory.createGenerator(stream, StandardCharsets.UTF_8)) {
+            generator.writeStartObject().write("stringValue", "Short string").writeEnd();
+        }
+        return stream.toByteArray();
+    }
+
+}
@@ -0,0 +1,4 @@
+package org.eclipse.yasson.jmh.model;
+
+public record RecordData(String name, int count, long timestamp, double value, boolean active) {
+}